@@ -12,7 +12,6 @@
 
 package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport;
 
-import static com.ericsson.oss.services.cm.export.api.BatchExportConstants.CONTEXT_SERVICE_USER_VALUE;
 import static com.ericsson.oss.services.cm.export.api.BatchExportConstants.MASTER_EXPORT_JOB;
 import static com.ericsson.oss.services.cm.export.api.ExportServiceConstants.EXECUTION_ERROR;
 import static com.ericsson.oss.services.cm.export.api.ExportServiceConstants.INVALID_JOB_ID;
@@ -20,14 +19,10 @@ import static com.ericsson.oss.services.cm.export.api.ExportServiceError.EXPORT_
 import static com.ericsson.oss.services.cm.export.api.ExportServiceError.EXPORT_JOB_SECURITY_EXCEPTION;
 import static com.ericsson.oss.services.cm.export.api.ExportServiceError.JOB_ID_NOT_FOUND;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Date;
 
 import javax.batch.operations.JobSecurityException;
-import javax.batch.operations.NoSuchJobException;
-import javax.batch.operations.NoSuchJobExecutionException;
+import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
 import javax.ejb.TransactionAttribute;
 import javax.ejb.TransactionAttributeType;
@@ -35,29 +30,25 @@ import javax.inject.Inject;
 
 import org.slf4j.Logger;
 
-import com.ericsson.oss.itpf.datalayer.dps.DataPersistenceService;
-import com.ericsson.oss.itpf.sdk.context.ContextService;
 import com.ericsson.oss.itpf.sdk.core.annotation.EServiceRef;
-import com.ericsson.oss.itpf.sdk.core.retry.RetriableCommand;
-import com.ericsson.oss.itpf.sdk.core.retry.RetriableCommandException;
-import com.ericsson.oss.itpf.sdk.core.retry.RetryContext;
-import com.ericsson.oss.itpf.sdk.core.retry.RetryManager;
 import com.ericsson.oss.services.cm.export.api.*;
-import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.batch.persistence.JobPersistenceService;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.batch.persistence.JobRepositoryBean;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.exception.handling.ExportServiceExceptionHandler;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.filter.ExportFilterModelHandler;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.log.ExportServiceLog;
-import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.retry.DpsRetryPolicies;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.service.ExportJobListBean;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.service.ExportResultPage;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.service.ExportStatusBean;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.validation.ValidationException;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.validation.ValidationExportService;
 
 /**
  * Implementation class for {@code ExportServiceBean}. This class provides the implementation for
- * {@link ExportService}.
+ * {@link ExportService}. The no-interface view also exposes the paged {@code result} and {@code list} methods, which are not part of
+ * that API.
  */
 @Stateless
+@LocalBean
 @TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
 public class ExportServiceBean implements ExportService {
 
@@ -78,9 +69,6 @@ public class ExportServiceBean implements ExportService {
     @Inject
     private JobRepositoryBean jobRepositoryBean;
 
-    @Inject
-    private JobPersistenceService jobPersistenceService;
-
     @Inject
     private ExportFilterModelHandler exportModelHandler;
 
@@ -94,16 +82,7 @@ public class ExportServiceBean implements ExportService {
     private ExportStatusBean exportStatusBean;
 
     @Inject
-    private ContextService contextService;
-
-    @EServiceRef
-    private DataPersistenceService dataPersistenceService;
-
-    @Inject
-    private RetryManager retryManager;
-
-    @Inject
-    private DpsRetryPolicies retryPolicy;
+    private ExportJobListBean exportJobListBean;
 
     @Override
     public ExportIdentifier start(final NodeSearchCriteria nodeSearchCriteria, final ExportFilter exportFilter,
@@ -154,18 +133,35 @@ public class ExportServiceBean implements ExportService {
 
     @Override
     public ExportResponse result(final Long jobId) {
-        ExportResponse exportResponse = new ExportResponse();
+        return result(jobId, null, 0).getExportResponse();
+    }
+
+    /**
+     * Gets one page of the node results of an export job.
+     *
+     * @param jobId
+     *            the id of the export job
+     * @param continuationToken
+     *            the token returned with the previous page, or null to get the first page
+     * @param pageSize
+     *            maximum number of exported and not exported node results of the page, or a value lower than one to get all of them
+     * @return the page of node results, with no continuation token if the request failed
+     */
+    public ExportResultPage result(final Long jobId, final String continuationToken, final int pageSize) {
+        ExportResultPage exportResultPage = new ExportResultPage(new ExportResponse(), null);
         try {
+            final String afterNodeRootFdn = continuationToken == null ? null : ExportResultPage.decodeContinuationToken(continuationToken);
             final JobExecutionEntity jobExecution = validationExportService.validateJobExecution(jobId, MASTER_EXPORT_JOB);
-            exportResponse = exportStatusBean.result(jobExecution);
+            exportResultPage = exportStatusBean.result(jobExecution, afterNodeRootFdn, pageSize);
         } catch (final ValidationException validationException) {
-            exceptionHandler.handleInternalException(exportResponse, validationException.getMessage(), validationException.solution(),
-                    ExportServiceBean.class.getName(), EXECUTION_ERROR, validationException.code());
+            exceptionHandler.handleInternalException(exportResultPage.getExportResponse(), validationException.getMessage(),
+                    validationException.solution(), ExportServiceBean.class.getName(), EXECUTION_ERROR, validationException.code());
         } catch (final Exception ex) {
-            exceptionHandler.handleError(exportResponse, ex, EXPORT_GENERIC_ERROR.solution(), EXECUTION_ERROR, EXPORT_GENERIC_ERROR.code());
+            exceptionHandler.handleError(exportResultPage.getExportResponse(), ex, EXPORT_GENERIC_ERROR.solution(), EXECUTION_ERROR,
+                    EXPORT_GENERIC_ERROR.code());
         }
-        exportServiceLogger.logExportCommand(EXPORT_RESULT, exportResponse, jobId);
-        return exportResponse;
+        exportServiceLogger.logExportCommand(EXPORT_RESULT, exportResultPage.getExportResponse(), jobId);
+        return exportResultPage;
     }
 
     private ExportJobExecutionEntity exportStatus(final Long jobId) {
@@ -182,10 +178,28 @@ public class ExportServiceBean implements ExportService {
     @Override
     @TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
     public ExportStatusList list() {
+        return list(null, null, 0, 0);
+    }
+
+    /**
+     * Lists the status of the export jobs created within the given time window, one page at a time.
+     *
+     * @param createdFrom
+     *            inclusive lower bound of the job creation time, or null for no lower bound
+     * @param createdTo
+     *            exclusive upper bound of the job creation time, or null for no upper bound
+     * @param firstResult
+     *            position of the first job of the page
+     * @param maxResults
+     *            maximum number of jobs of the page, or a value lower than one for no limit
+     * @return the status of the export jobs of the page, in ascending job ID order
+     */
+    @TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
+    public ExportStatusList list(final Date createdFrom, final Date createdTo, final int firstResult, final int maxResults) {
         final long start = System.nanoTime();
         final ExportStatusList exportList = new ExportStatusList();
         try {
-            exportList.setExportList(getExecutionEntities());
+            exportList.setExportList(exportJobListBean.list(createdFrom, createdTo, firstResult, maxResults));
         } catch (final JobSecurityException jobSecurityException) {
             exceptionHandler.handleError(exportList, jobSecurityException, EXPORT_JOB_SECURITY_EXCEPTION.solution(), EXECUTION_ERROR,
                     EXPORT_GENERIC_ERROR.code());
@@ -218,78 +232,4 @@ public class ExportServiceBean implements ExportService {
             throw validationExportService.createValidationException(JOB_ID_NOT_FOUND, jobId.toString());
         }
     }
-
-    private List<ExportJobExecutionEntity> getExecutionEntities() {
-        final List<ExportJobExecutionEntity> executionEntities = new ArrayList<>();
-        try {
-            // Get job IDs from Postgres
-            final Map<Long, ExportJobExecutionEntity> jobExecutionEntities = getJobIdsFromPostgres();
-            // Get all ExportJobExecutionEntity objects from all JobOutput POs
-            retryManager.executeCommand(retryPolicy.getRetryPolicy(), new RetriableCommand<Void>() {
-                @Override
-                public Void execute(final RetryContext retryContext) throws Exception {
-                    try {
-                        jobExecutionEntities.putAll(jobPersistenceService.mapJobOutputPosToExportJobExecutionEntities());
-                    } catch (final RetriableCommandException e) {
-                        logger.error(retryPolicy.getException(e).getMessage());
-                        throw retryPolicy.getException(e);
-                    }
-                    return null;
-                }
-            });
-            for (final Map.Entry<Long, ExportJobExecutionEntity> job : jobExecutionEntities.entrySet()) {
-                try {
-                    // if the JobOutput PO exist for this job, add this from the list
-                    if (job.getValue() != null) {
-                        final ExportJobExecutionEntity jobExecutionEntity = job.getValue();
-                        // Logic to maintain the backward compatibility for jobs created before this update
-                        // if the expected node exported counter is 0 then JobOuput PO was created without the node counters
-                        // TODO Remove this logic as soon as the main customers have upgraded ENM
-                        if (jobExecutionEntity.getExpectedNodesExported() > 0) {
-                            executionEntities.add(jobExecutionEntity);
-                        } else {
-                            final JobExecutionEntity execution = jobRepositoryBean.getJobExecution(job.getKey());
-                            if (isJobExecutionValid(job.getKey())) {
-                                executionEntities.add(exportStatusBean.status(execution));
-                            }
-                        }
-                    } else {
-                        final JobExecutionEntity execution = jobRepositoryBean.getJobExecution(job.getKey());
-                        if (isJobExecutionValid(job.getKey())) {
-                            executionEntities.add(exportStatusBean.status(execution));
-                        }
-                    }
-                } catch (final NoSuchJobExecutionException noSuchJobExecutionException) {
-                    // TODO This block can be removed once the main customers has upgraded ENM
-                    logger.warn("Exception occurred when retrieving job execution.", noSuchJobExecutionException);
-                }
-            }
-        } catch (final NoSuchJobException noSuchJobException) {
-            logger.warn("Exception occurred when retrieving jobs list.", noSuchJobException);
-        }
-        return executionEntities;
-    }
-
-    private Map<Long, ExportJobExecutionEntity> getJobIdsFromPostgres() {
-        final Map<Long, ExportJobExecutionEntity> jobsMap = new TreeMap<>();
-        final List<Long> jobIds = jobRepositoryBean.getJobExecutionIds(MASTER_EXPORT_JOB);
-        for (final Long jobId : jobIds) {
-            jobsMap.put(jobId, null);
-        }
-        return jobsMap;
-    }
-
-    private boolean isJobExecutionValid(final Long jobId) {
-        boolean valid = true;
-        try {
-            validationExportService.validateJobExecution(jobId, MASTER_EXPORT_JOB);
-        } catch (final ValidationException validationException) {
-            final String user = contextService.getContextValue(CONTEXT_SERVICE_USER_VALUE);
-            final String message = String.format("JobExecution is not valid for job id %s, job will be cleaned up "
-                    + "later by scheduled clean up", jobId);
-            exportServiceLogger.logErrorMessage(user, JOB_ID_NOT_FOUND.code(), message, "Export Status");
-            valid = false;
-        }
-        return valid;
-    }
-}
\ No newline at end of file
+}
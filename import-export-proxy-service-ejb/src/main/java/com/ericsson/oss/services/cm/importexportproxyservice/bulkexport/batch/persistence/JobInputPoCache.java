@@ -0,0 +1,134 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.batch.persistence;
+
+import static com.ericsson.oss.services.cm.export.api.ExportServiceConstants.ATTR_JOB_ID;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.enterprise.context.ApplicationScoped;
+
+/**
+ * Size bounded cache of the attributes of the JobInput and MasterJobInput POs, so that each instance reads and decodes the JobInput PO
+ * of a job once instead of once per attribute accessed.
+ * <p>
+ * The attributes are cached as a read-only snapshot, with read-only nested lists and maps, which is shared by all the callers
+ * without being copied. A PO is only cached once its job ID has been set, as the job ID is set by the last update done on the PO
+ * when the job is started, and its entry is invalidated when the PO is updated or deleted by this instance.
+ */
+@ApplicationScoped
+public class JobInputPoCache {
+
+    static final int MAX_CACHED_JOB_INPUT_POS = 20;
+
+    private final Map<Long, Map<String, Object>> attributesByPoId = new LinkedHashMap<Long, Map<String, Object>>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Long, Map<String, Object>> eldest) {
+            return size() > MAX_CACHED_JOB_INPUT_POS;
+        }
+    };
+
+    /**
+     * Gets the cached attributes of a JobInput PO.
+     *
+     * @param poId
+     *            JobInput PO ID
+     * @return the read-only attributes of the JobInput PO or null if they are not cached
+     */
+    public synchronized Map<String, Object> get(final long poId) {
+        return attributesByPoId.get(poId);
+    }
+
+    /**
+     * Caches the attributes of a JobInput PO if its job ID has been set.
+     *
+     * @param poId
+     *            JobInput PO ID
+     * @param attributes
+     *            all the attributes read from the JobInput PO
+     * @return the read-only attributes of the JobInput PO
+     */
+    public Map<String, Object> put(final long poId, final Map<String, Object> attributes) {
+        final Map<String, Object> readOnlyAttributes = readOnlyAttributes(attributes);
+        if (attributes.get(ATTR_JOB_ID) != null) {
+            synchronized (this) {
+                attributesByPoId.put(poId, readOnlyAttributes);
+            }
+        }
+        return readOnlyAttributes;
+    }
+
+    /**
+     * Invalidates the cached attributes of a JobInput PO.
+     *
+     * @param poId
+     *            JobInput PO ID
+     */
+    public synchronized void remove(final long poId) {
+        attributesByPoId.remove(poId);
+    }
+
+    /**
+     * Invalidates the cached attributes of the JobInput POs of the given jobs.
+     *
+     * @param jobIds
+     *            IDs of the export jobs, or null if there are none
+     */
+    public synchronized void removeJobs(final Collection<Long> jobIds) {
+        if (jobIds == null || jobIds.isEmpty()) {
+            return;
+        }
+        final Iterator<Map<String, Object>> iterator = attributesByPoId.values().iterator();
+        while (iterator.hasNext()) {
+            if (jobIds.contains(iterator.next().get(ATTR_JOB_ID))) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static Map<String, Object> readOnlyAttributes(final Map<String, Object> attributes) {
+        final Map<String, Object> copiedAttributes = new HashMap<>(attributes.size());
+        for (final Map.Entry<String, Object> attribute : attributes.entrySet()) {
+            copiedAttributes.put(attribute.getKey(), readOnlyValue(attribute.getValue()));
+        }
+        return Collections.unmodifiableMap(copiedAttributes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object readOnlyValue(final Object value) {
+        if (value instanceof List) {
+            final List<Object> copiedList = new ArrayList<>(((List<Object>) value).size());
+            for (final Object element : (List<Object>) value) {
+                copiedList.add(readOnlyValue(element));
+            }
+            return Collections.unmodifiableList(copiedList);
+        }
+        if (value instanceof Map) {
+            final Map<Object, Object> copiedMap = new HashMap<>(((Map<Object, Object>) value).size());
+            for (final Map.Entry<Object, Object> entry : ((Map<Object, Object>) value).entrySet()) {
+                copiedMap.put(entry.getKey(), readOnlyValue(entry.getValue()));
+            }
+            return Collections.unmodifiableMap(copiedMap);
+        }
+        return value;
+    }
+}
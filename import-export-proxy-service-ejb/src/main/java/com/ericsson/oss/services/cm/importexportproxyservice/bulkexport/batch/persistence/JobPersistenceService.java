@@ -12,8 +12,10 @@
 
 package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.batch.persistence;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.ejb.Local;
 
@@ -24,6 +26,8 @@ import com.ericsson.oss.services.cm.export.transformer.api.TransformerUserFilter
 
 /**
  * Service to persist and retrieve job information using DPS.
+ * <p>
+ * The lists and maps read from the JobInput PO attributes are read-only, as they can be shared with other callers.
  */
 @Local
 public interface JobPersistenceService {
@@ -153,6 +157,36 @@ public interface JobPersistenceService {
      */
     List<PersistenceObject> findNodeExportResultPosByJobId(long jobId);
 
+    /**
+     * Iterates over the NodeExportResult PO's with a node root FDN of a particular export job in ascending node root FDN order, so that
+     * all the PO's of a node are returned one after the other without holding the PO's of the whole job in memory.
+     *
+     * @param jobId
+     *            Job Id of the export job
+     * @param afterNodeRootFdn
+     *            node root FDN after which the iteration starts, or null to start from the first node
+     * @return the iterator over the NodeExportResult PO's of the job
+     */
+    Iterator<PersistenceObject> iterateNodeExportResultPosByJobId(long jobId, String afterNodeRootFdn);
+
+    /**
+     * Finds the NodeExportResult PO's without a node root FDN of a particular export job.
+     *
+     * @param jobId
+     *            Job Id of the export job
+     * @return the list of NodeExportResult PO's of the job without a node root FDN
+     */
+    List<PersistenceObject> findNodeExportResultPosWithoutNodeRootFdnByJobId(long jobId);
+
+    /**
+     * Gets the node counters of a running export job, counted from its NodeExportResult POs without grouping the POs into root MOs.
+     *
+     * @param jobId
+     *            Job Id of the export job
+     * @return the node counters of the job
+     */
+    NodeExportCounters getNodeExportCounters(long jobId);
+
     /**
      * Finds the JobOutput PO of an export job.
      *
@@ -296,6 +330,16 @@ public interface JobPersistenceService {
      */
     Map<Long, ExportJobExecutionEntity> mapJobOutputPosToExportJobExecutionEntities();
 
+    /**
+     * Maps the JobOutput POs of the given jobs to a Map which job IDs as key and {@code ExportJobExecutionEntity} as values.
+     * Only the JobOutput POs of the given jobs are read, with a single query restricted on the job IDs.
+     *
+     * @param jobIds
+     *            IDs of the export jobs to map
+     * @return the map of ExportJobExecutionEntity.
+     */
+    Map<Long, ExportJobExecutionEntity> mapJobOutputPosToExportJobExecutionEntities(Set<Long> jobIds);
+
     /**
      * Map a JobOutput PO to a {@code ExportJobExecutionEntity}.
      *
@@ -67,6 +67,9 @@ public class JobPersistenceServiceBean implements JobPersistenceService {
     @Inject
     private UserFilterUtilitiesBean userFilterUtilitiesBean;
 
+    @Inject
+    private JobInputPoCache jobInputPoCache;
+
     @Inject
     private RetryManager retryManager;
 
@@ -76,6 +79,14 @@ public class JobPersistenceServiceBean implements JobPersistenceService {
     @Inject
     private Logger logger;
 
+    private Map<String, Object> getJobInputPoAttributes(final long poId) {
+        final Map<String, Object> cachedAttributes = jobInputPoCache.get(poId);
+        if (cachedAttributes != null) {
+            return cachedAttributes;
+        }
+        return jobInputPoCache.put(poId, findJobInputPoByIdForReadOnlyAccess(poId).getAllAttributes());
+    }
+
     private PersistenceObject findJobInputPoByIdForReadOnlyAccess(final long poId) {
         final PersistenceObject persistenceObject = dataPersistenceService.getDataBucket(LIVE_BUCKET, CONDENSE_NODES).findPoById(poId);
         validatePo(persistenceObject, poId);
@@ -95,22 +106,22 @@ public class JobPersistenceServiceBean implements JobPersistenceService {
 
     @Override
     public List<String> getNodesToExportListFromJobInputPo(final long poId) {
-        final PersistenceObject jobInputPo = findJobInputPoByIdForReadOnlyAccess(poId);
-        return jobInputPo.getAttribute(ATTR_NODES_TO_EXPORT);
+        final Map<String, Object> jobInputPoAttributes = getJobInputPoAttributes(poId);
+        return (List<String>) jobInputPoAttributes.get(ATTR_NODES_TO_EXPORT);
     }
 
     @Override
     public List<String> findPartitionedNodes(final long poId, final int partitionIndex) {
-        final PersistenceObject jobInputPo = findJobInputPoByIdForReadOnlyAccess(poId);
-        final Map<Integer, Object> partitionedNodeMap = jobInputPo.getAttribute(ATTR_PARTITIONED_MAP);
+        final Map<String, Object> jobInputPoAttributes = getJobInputPoAttributes(poId);
+        final Map<Integer, Object> partitionedNodeMap = (Map<Integer, Object>) jobInputPoAttributes.get(ATTR_PARTITIONED_MAP);
         final Map<String, Object> partition = (Map<String, Object>) partitionedNodeMap.get(partitionIndex);
         return (List<String>) partition.get(MEMBER_PARTITIONED_NODES);
     }
 
     @Override
     public Map<String, Object> findPartitionedNodesForSlaveMap(final long poId) {
-        final PersistenceObject jobInputPo = findJobInputPoByIdForReadOnlyAccess(poId);
-        return jobInputPo.getAttribute(ATTR_PARTITIONED_MAP);
+        final Map<String, Object> jobInputPoAttributes = getJobInputPoAttributes(poId);
+        return (Map<String, Object>) jobInputPoAttributes.get(ATTR_PARTITIONED_MAP);
     }
 
     @Override
@@ -134,6 +145,7 @@ public class JobPersistenceServiceBean implements JobPersistenceService {
     public void updateJobInputPartitionedNodesAttribute(final long poId, final long jobId, final Map<Integer, Object> partitionedNodesMap) {
         final PersistenceObject jobInputPo = dataPersistenceService.getLiveBucket().findPoById(poId);
         validatePo(jobInputPo, poId);
+        jobInputPoCache.remove(poId);
         jobInputPo.setAttribute(ATTR_PARTITIONED_MAP, partitionedNodesMap);
         jobInputPo.setAttribute(ATTR_JOB_ID, jobId);
     }
@@ -152,6 +164,7 @@ public class JobPersistenceServiceBean implements JobPersistenceService {
             final Map<String, Object> nodeSizeCategoryCountPerSlave, final Map<String, Object> masterNodeSizeCategoryCount) {
         final PersistenceObject masterJobInputPo = dataPersistenceService.getLiveBucket().findPoById(poId);
         validatePo(masterJobInputPo, poId);
+        jobInputPoCache.remove(poId);
         masterJobInputPo.setAttribute(ATTR_PARTITIONED_MAP, partitionedNodesMap);
         masterJobInputPo.setAttribute(ATTR_NODE_SIZE_CATEGORY_COUNT_PER_SLAVE, nodeSizeCategoryCountPerSlave);
         masterJobInputPo.setAttribute(ATTR_NODE_SIZE_CATEGORY_COUNT, masterNodeSizeCategoryCount);
@@ -179,6 +192,35 @@ public class JobPersistenceServiceBean implements JobPersistenceService {
         return findNodeExportResults(jobId);
     }
 
+    @Override
+    public Iterator<PersistenceObject> iterateNodeExportResultPosByJobId(final long jobId, final String afterNodeRootFdn) {
+        final QueryBuilder queryBuilder = dataPersistenceService.getQueryBuilder();
+        final Query<TypeRestrictionBuilder> typeQuery = queryBuilder.createTypeQuery(NAMESPACE_BATCH, TYPE_NODE_EXPORT_RESULT);
+        final TypeRestrictionBuilder restrictionBuilder = typeQuery.getRestrictionBuilder();
+        final Restriction jobIdRestriction = restrictionBuilder.equalTo(ATTR_JOB_ID, jobId);
+        final Restriction nodeRootFdnRestriction = afterNodeRootFdn == null
+                ? restrictionBuilder.not(restrictionBuilder.nullValue(ATTR_NODE_ROOT_FDN))
+                : restrictionBuilder.greaterThan(ATTR_NODE_ROOT_FDN, afterNodeRootFdn);
+        typeQuery.setRestriction(restrictionBuilder.allOf(jobIdRestriction, nodeRootFdnRestriction));
+        typeQuery.addSortingOrder(ATTR_NODE_ROOT_FDN, SortDirection.ASCENDING);
+        return dataPersistenceService.getLiveBucket().getQueryExecutor().execute(typeQuery);
+    }
+
+    @Override
+    public List<PersistenceObject> findNodeExportResultPosWithoutNodeRootFdnByJobId(final long jobId) {
+        final QueryBuilder queryBuilder = dataPersistenceService.getQueryBuilder();
+        final Query<TypeRestrictionBuilder> typeQuery = queryBuilder.createTypeQuery(NAMESPACE_BATCH, TYPE_NODE_EXPORT_RESULT);
+        final TypeRestrictionBuilder restrictionBuilder = typeQuery.getRestrictionBuilder();
+        typeQuery.setRestriction(restrictionBuilder.allOf(restrictionBuilder.equalTo(ATTR_JOB_ID, jobId),
+                restrictionBuilder.nullValue(ATTR_NODE_ROOT_FDN)));
+        return executeQuery(dataPersistenceService.getLiveBucket(), typeQuery);
+    }
+
+    @Override
+    public NodeExportCounters getNodeExportCounters(final long jobId) {
+        return NodeExportCounters.fromPersistenceObjects(findNodeExportResults(jobId));
+    }
+
     private List<PersistenceObject> findNodeExportResults(final long jobId) {
         final QueryBuilder queryBuilder = dataPersistenceService.getQueryBuilder();
         final Query<TypeRestrictionBuilder> typeQuery = queryBuilder.createTypeQuery(NAMESPACE_BATCH, TYPE_NODE_EXPORT_RESULT);
@@ -361,20 +403,20 @@ public class JobPersistenceServiceBean implements JobPersistenceService {
 
     @Override
     public String getExportTypeFromJobInputPo(final long poId) {
-        final PersistenceObject jobInputPo = findJobInputPoByIdForReadOnlyAccess(poId);
-        return jobInputPo.getAttribute(ATTR_EXPORT_TYPE);
+        final Map<String, Object> jobInputPoAttributes = getJobInputPoAttributes(poId);
+        return (String) jobInputPoAttributes.get(ATTR_EXPORT_TYPE);
     }
 
     @Override
     public String getConfigNameFromJobInputPo(final long poId) {
-        final PersistenceObject jobInputPo = findJobInputPoByIdForReadOnlyAccess(poId);
-        return jobInputPo.getAttribute(ATTR_CONFIG_NAME);
+        final Map<String, Object> jobInputPoAttributes = getJobInputPoAttributes(poId);
+        return (String) jobInputPoAttributes.get(ATTR_CONFIG_NAME);
     }
 
     @Override
     public List<String> getMosToFilterFromJobInputPo(final long poId) {
-        final PersistenceObject jobInputPo = findJobInputPoByIdForReadOnlyAccess(poId);
-        final List<String> moListToFilter = jobInputPo.getAttribute(ATTR_MANAGED_OBJECTS_TO_FILTER);
+        final Map<String, Object> jobInputPoAttributes = getJobInputPoAttributes(poId);
+        final List<String> moListToFilter = (List<String>) jobInputPoAttributes.get(ATTR_MANAGED_OBJECTS_TO_FILTER);
         if (moListToFilter == null) {
             return new ArrayList<>(0);
         }
@@ -383,26 +425,25 @@ public class JobPersistenceServiceBean implements JobPersistenceService {
 
     @Override
     public boolean getEnumTranslateFromJobInputPo(final long poId) {
-        final PersistenceObject jobInputPo = findJobInputPoByIdForReadOnlyAccess(poId);
-        return jobInputPo.getAttribute(ATTR_ENUM_TRANSLATE);
+        final Map<String, Object> jobInputPoAttributes = getJobInputPoAttributes(poId);
+        return (Boolean) jobInputPoAttributes.get(ATTR_ENUM_TRANSLATE);
     }
 
     @Override
     public Map<String, Object> getAllAtributesFromJobInputPo(final long poId) {
-        final PersistenceObject jobInputPo = findJobInputPoByIdForReadOnlyAccess(poId);
-        return jobInputPo.getAllAttributes();
+        return getJobInputPoAttributes(poId);
     }
 
     @Override
     public Map<String, Object> getFilterPoFromJobInputPo(final long poId) {
-        final PersistenceObject jobInputPo = findJobInputPoByIdForReadOnlyAccess(poId);
-        return jobInputPo.getAttribute(ATTR_EXPORT_FILTER);
+        final Map<String, Object> jobInputPoAttributes = getJobInputPoAttributes(poId);
+        return (Map<String, Object>) jobInputPoAttributes.get(ATTR_EXPORT_FILTER);
     }
 
     @Override
     public Map<String, Object> getUserFilterPoFromJobInputPo(final long poId) {
-        final PersistenceObject jobInputPo = findJobInputPoByIdForReadOnlyAccess(poId);
-        return jobInputPo.getAttribute(ATTR_USER_FILTER);
+        final Map<String, Object> jobInputPoAttributes = getJobInputPoAttributes(poId);
+        return (Map<String, Object>) jobInputPoAttributes.get(ATTR_USER_FILTER);
     }
 
     @Override
@@ -429,6 +470,7 @@ public class JobPersistenceServiceBean implements JobPersistenceService {
         });
         final PersistenceObject jobInputPo = dataBucket.findPoById(poId);
         validatePo(jobInputPo, poId);
+        jobInputPoCache.remove(poId);
         final Map<String, Object> userFilterMap = jobInputPo.getAttribute(ATTR_USER_FILTER);
         userFilterMap.put(MEMBER_MO_SPECIFICATIONS_LIST, moSpecifications);
         jobInputPo.setAttribute(ATTR_USER_FILTER, userFilterMap);
@@ -447,6 +489,8 @@ public class JobPersistenceServiceBean implements JobPersistenceService {
     @Timed(group = "cleanup", name = "deleteDpsData")
     @Override
     public void deleteJobPo(final long masterJobId, final List<Long> slaveJobIds) {
+        jobInputPoCache.removeJobs(Collections.singletonList(masterJobId));
+        jobInputPoCache.removeJobs(slaveJobIds);
         removePo(findMasterJobInputPoByJobId(masterJobId));
         removePo(findJobOutput(masterJobId));
         final int counter = findAndDeleteNodeExportResults(masterJobId);
@@ -456,11 +500,18 @@ public class JobPersistenceServiceBean implements JobPersistenceService {
         }
     }
 
+    private Query<TypeRestrictionBuilder> createJobIdsTypeQuery(final String type, final List<Long> jobIds) {
+        final Query<TypeRestrictionBuilder> typeQuery = dataPersistenceService.getQueryBuilder().createTypeQuery(NAMESPACE_BATCH, type);
+        typeQuery.setRestriction(typeQuery.getRestrictionBuilder().in(ATTR_JOB_ID, jobIds.toArray()));
+        return typeQuery;
+    }
+
     @Override
     @TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
     public void deletePo(final long poId) {
         final PersistenceObject jobInputPo = dataPersistenceService.getLiveBucket().findPoById(poId);
         validatePo(jobInputPo, poId);
+        jobInputPoCache.remove(poId);
         removePo(jobInputPo);
     }
 
@@ -501,9 +552,22 @@ public class JobPersistenceServiceBean implements JobPersistenceService {
 
     @Override
     public Map<Long, ExportJobExecutionEntity> mapJobOutputPosToExportJobExecutionEntities() {
+        return mapJobOutputPos(null);
+    }
+
+    @Override
+    public Map<Long, ExportJobExecutionEntity> mapJobOutputPosToExportJobExecutionEntities(final Set<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return mapJobOutputPos(jobIds);
+    }
+
+    private Map<Long, ExportJobExecutionEntity> mapJobOutputPos(final Set<Long> jobIds) {
         final Map<Long, ExportJobExecutionEntity> mapExportJobExecutionEntities = new HashMap<>();
-        final QueryBuilder queryBuilder = dataPersistenceService.getQueryBuilder();
-        final Query<TypeRestrictionBuilder> typeQuery = queryBuilder.createTypeQuery(NAMESPACE_BATCH, TYPE_JOB_OUTPUT);
+        final Query<TypeRestrictionBuilder> typeQuery = jobIds == null
+                ? dataPersistenceService.getQueryBuilder().createTypeQuery(NAMESPACE_BATCH, TYPE_JOB_OUTPUT)
+                : createJobIdsTypeQuery(TYPE_JOB_OUTPUT, new ArrayList<>(jobIds));
 
         final DataBucket liveBucket = dataPersistenceService.getLiveBucket();
         final QueryExecutor queryExecutor = liveBucket.getQueryExecutor();
@@ -588,8 +652,8 @@ public class JobPersistenceServiceBean implements JobPersistenceService {
 
     @Override
     public Map<String, Object> getNodeSizeCategoryCountFromJobInputPo(final long jobInputPoId) {
-        final PersistenceObject jobInputPo = findJobInputPoByIdForReadOnlyAccess(jobInputPoId);
-        return jobInputPo.getAttribute(ATTR_NODE_SIZE_CATEGORY_COUNT);
+        final Map<String, Object> jobInputPoAttributes = getJobInputPoAttributes(jobInputPoId);
+        return (Map<String, Object>) jobInputPoAttributes.get(ATTR_NODE_SIZE_CATEGORY_COUNT);
     }
 
     @Override
@@ -597,7 +661,10 @@ public class JobPersistenceServiceBean implements JobPersistenceService {
         final LockablePersistenceObject masterJobInputPo = (LockablePersistenceObject) findJobInputPoByIdForReadOnlyAccess(masterJobInputPoId);
         masterJobInputPo.acquireReadLock();
 
-        final Map<String, Object> allAttributes = masterJobInputPo.getAllAttributes();
+        Map<String, Object> allAttributes = jobInputPoCache.get(masterJobInputPoId);
+        if (allAttributes == null) {
+            allAttributes = jobInputPoCache.put(masterJobInputPoId, masterJobInputPo.getAllAttributes());
+        }
         final String exportType = (String) allAttributes.get(ATTR_EXPORT_TYPE);
         final String configName = (String) allAttributes.get(ATTR_CONFIG_NAME);
         final Boolean enumTranslate = (Boolean) allAttributes.get(ATTR_ENUM_TRANSLATE);
@@ -639,8 +706,8 @@ public class JobPersistenceServiceBean implements JobPersistenceService {
     }
 
     public Boolean getSkipPreliminary(final long jobInputPoId) {
-        final PersistenceObject jobInputPo = findJobInputPoByIdForReadOnlyAccess(jobInputPoId);
-        return (Boolean) jobInputPo.getAttribute(ATTR_SKIP_PRELIMINARY_NODE);
+        final Map<String, Object> jobInputPoAttributes = getJobInputPoAttributes(jobInputPoId);
+        return (Boolean) jobInputPoAttributes.get(ATTR_SKIP_PRELIMINARY_NODE);
     }
 
     private Boolean extractBooleanAttribute(final Object booleanObject, final Boolean defaultValue) {
@@ -30,6 +30,7 @@ import javax.inject.Inject;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.Query;
+import javax.persistence.TemporalType;
 
 import org.slf4j.Logger;
 
@@ -113,6 +114,14 @@ public class JobRepositoryBean {
                     + "INNER JOIN JOB_INSTANCE ON JOB_EXECUTION.JOBINSTANCEID = JOB_INSTANCE.JOBINSTANCEID "
                     + "WHERE JOB_INSTANCE.JOBNAME LIKE 'masterExportJob' AND JOB_EXECUTION.JOBEXECUTIONID = ?";
 
+    private static final String GET_MASTER_JOB_EXECUTIONS_SQL_QUERY =
+            "SELECT JOBEXECUTIONID, CREATETIME, STARTTIME, ENDTIME, LASTUPDATEDTIME, BATCHSTATUS, EXITSTATUS, JOBPARAMETERS FROM JOB_EXECUTION "
+                    + "INNER JOIN JOB_INSTANCE ON JOB_EXECUTION.JOBINSTANCEID = JOB_INSTANCE.JOBINSTANCEID "
+                    + "WHERE JOB_INSTANCE.JOBNAME LIKE 'masterExportJob'";
+    private static final String CREATE_TIME_FROM_CONDITION = " AND JOB_EXECUTION.CREATETIME >= ?";
+    private static final String CREATE_TIME_TO_CONDITION = " AND JOB_EXECUTION.CREATETIME < ?";
+    private static final String ORDER_BY_JOB_EXECUTION_ID = " ORDER BY JOB_EXECUTION.JOBEXECUTIONID";
+
     private static final String EXPORT_TYPE_PARAMETER_CONDITION = "%exportType = {0}%";
     private static final String COMPRESSION_TYPE_PARAMETER_CONDITION = "%compressionType = {0}%";
     private static final String CATEGORY_ID_PARAMETER_CONDITION = "%category = {0}%";
@@ -234,24 +243,74 @@ public class JobRepositoryBean {
         final Query query = entityManager.createNativeQuery(GET_JOB_EXECUTION_DETAILS_FOR_SPECIFIED_EXECUTION_ID);
         query.setParameter(1, jobId);
         final List<Object[]> jobExecutionDataList = query.getResultList();
-        final JobExecutionEntity jobExecution = new JobExecutionEntity();
         if (jobExecutionDataList != null && !jobExecutionDataList.isEmpty()) {
-            final Object[] jobExecutionData = jobExecutionDataList.get(0);
-            jobExecution.setExecutionId(((BigInteger) jobExecutionData[0]).longValue());
-            jobExecution.setCreateTime((Date) jobExecutionData[1]);
-            jobExecution.setStartTime((Date) jobExecutionData[2]);
-            jobExecution.setEndTime((Date) jobExecutionData[3]);
-            jobExecution.setLastUpdatedTime((Date) jobExecutionData[4]);
-            jobExecution.setBatchStatus(BatchStatus.valueOf(jobExecutionData[5].toString()));
-            jobExecution.setExitStatus((String) jobExecutionData[6]);
-            final Properties jobParameters = getJobParameters(jobExecutionData[7].toString());
-            jobExecution.setJobParameters(jobParameters);
-            jobExecution.setJobName(jobParameters.getProperty(JOB_NAME));
-            return jobExecution;
+            return mapJobExecution(jobExecutionDataList.get(0));
         }
         return null;
     }
 
+    /**
+     * Gets the master export job executions created within the given time window in a single query, ordered by job execution ID.
+     *
+     * @param createdFrom
+     *            inclusive lower bound of the job creation time, or null for no lower bound
+     * @param createdTo
+     *            exclusive upper bound of the job creation time, or null for no upper bound
+     * @param firstResult
+     *            position of the first job execution to retrieve
+     * @param maxResults
+     *            maximum number of job executions to retrieve, or a value lower than one to retrieve all of them
+     * @return the job executions mapped by job execution ID, in ascending ID order
+     */
+    @Timed(group = "jobExecutions", name = "getMasterJobExecutions")
+    public Map<Long, JobExecutionEntity> getMasterJobExecutions(final Date createdFrom, final Date createdTo, final int firstResult,
+            final int maxResults) {
+        final StringBuilder queryStringBuilder = new StringBuilder(GET_MASTER_JOB_EXECUTIONS_SQL_QUERY);
+        if (createdFrom != null) {
+            queryStringBuilder.append(CREATE_TIME_FROM_CONDITION);
+        }
+        if (createdTo != null) {
+            queryStringBuilder.append(CREATE_TIME_TO_CONDITION);
+        }
+        queryStringBuilder.append(ORDER_BY_JOB_EXECUTION_ID);
+        final Query query = entityManager.createNativeQuery(queryStringBuilder.toString());
+        int parameterOffset = 1;
+        if (createdFrom != null) {
+            query.setParameter(parameterOffset++, createdFrom, TemporalType.TIMESTAMP);
+        }
+        if (createdTo != null) {
+            query.setParameter(parameterOffset, createdTo, TemporalType.TIMESTAMP);
+        }
+        query.setFirstResult(firstResult);
+        if (maxResults > 0) {
+            query.setMaxResults(maxResults);
+        }
+        final List<Object[]> jobExecutionDataList = query.getResultList();
+        final Map<Long, JobExecutionEntity> jobExecutions = new LinkedHashMap<>();
+        for (final Object[] jobExecutionData : jobExecutionDataList) {
+            final JobExecutionEntity jobExecution = mapJobExecution(jobExecutionData);
+            jobExecutions.put(jobExecution.getExecutionId(), jobExecution);
+        }
+        logger.debug("Batch Job Datastore, get master job executions: [{}] created from: [{}] to: [{}]", jobExecutions.size(), createdFrom,
+                createdTo);
+        return jobExecutions;
+    }
+
+    private JobExecutionEntity mapJobExecution(final Object[] jobExecutionData) {
+        final JobExecutionEntity jobExecution = new JobExecutionEntity();
+        jobExecution.setExecutionId(((BigInteger) jobExecutionData[0]).longValue());
+        jobExecution.setCreateTime((Date) jobExecutionData[1]);
+        jobExecution.setStartTime((Date) jobExecutionData[2]);
+        jobExecution.setEndTime((Date) jobExecutionData[3]);
+        jobExecution.setLastUpdatedTime((Date) jobExecutionData[4]);
+        jobExecution.setBatchStatus(BatchStatus.valueOf(jobExecutionData[5].toString()));
+        jobExecution.setExitStatus((String) jobExecutionData[6]);
+        final Properties jobParameters = getJobParameters(jobExecutionData[7].toString());
+        jobExecution.setJobParameters(jobParameters);
+        jobExecution.setJobName(jobParameters.getProperty(JOB_NAME));
+        return jobExecution;
+    }
+
     @Timed(group = "jobThreshold", name = "getRunningJobsOfExportType")
     public List<BigInteger> getRunningJobsOfExportTypeWithFileDetails(final String exportType, final String compressionType, final String category) {
         final Query query = entityManager.createNativeQuery(GET_RUNNING_JOBS_FOR_EXPORT_TYPE_WITH_FILE_DETAILS_SQL_QUERY);
@@ -0,0 +1,129 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.batch.persistence;
+
+import static com.ericsson.oss.services.cm.export.api.ExportServiceConstants.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ericsson.oss.itpf.datalayer.dps.persistence.PersistenceObject;
+import com.ericsson.oss.services.cm.export.api.ExportNodeResult.ExportNodeResultStatus;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.ejb.util.ExportStatsUtil;
+
+/**
+ * Node counters of an export job, counted in a single pass over the NodeExportResult POs of the job.
+ * <p>
+ * A node is classified from all the NodeExportResult POs of its root FDN in the same way as the export status does when it groups the
+ * NodeExportResult POs into root MOs, so only a few counters per root FDN are kept instead of the POs themselves.
+ */
+public class NodeExportCounters {
+
+    /**
+     * Attributes of a NodeExportResult PO read to count it.
+     */
+    private static final List<String> COUNTED_ATTRIBUTES = Collections.unmodifiableList(Arrays.asList(ATTR_NODE_ROOT_FDN, ATTR_EXPORT_STATUS,
+            ATTR_STATUS_MESSAGE, ATTR_FILE_NAME, ATTR_NUMBER_OF_MOS, ATTR_DPS_READ_DURATION));
+
+    private final Map<String, RootCounters> countersByRootFdn = new HashMap<>();
+    private int nodesExported;
+    private int nodesNotExported;
+    private long numberOfMosExported;
+    private long dpsReadDuration;
+
+    private NodeExportCounters() {
+    }
+
+    /**
+     * Builds the counters of an export job from all its NodeExportResult POs.
+     *
+     * @param nodeExportResultPos
+     *            the NodeExportResult POs of the export job
+     * @return the counters of the export job
+     */
+    static NodeExportCounters fromPersistenceObjects(final List<PersistenceObject> nodeExportResultPos) {
+        final NodeExportCounters nodeExportCounters = new NodeExportCounters();
+        for (final PersistenceObject nodeExportResultPo : nodeExportResultPos) {
+            nodeExportCounters.add(nodeExportResultPo.getAttributes(COUNTED_ATTRIBUTES));
+        }
+        return nodeExportCounters;
+    }
+
+    public int getNodesExported() {
+        return nodesExported;
+    }
+
+    public int getNodesNotExported() {
+        return nodesNotExported;
+    }
+
+    public long getNumberOfMosExported() {
+        return numberOfMosExported;
+    }
+
+    public long getDpsReadDuration() {
+        return dpsReadDuration;
+    }
+
+    private void add(final Map<String, Object> attributes) {
+        final String rootFdn = (String) attributes.get(ATTR_NODE_ROOT_FDN);
+        RootCounters rootCounters = countersByRootFdn.get(rootFdn);
+        if (rootCounters == null) {
+            rootCounters = new RootCounters();
+            countersByRootFdn.put(rootFdn, rootCounters);
+        }
+        nodesExported -= rootCounters.isExported() ? 1 : 0;
+        nodesNotExported -= rootCounters.isNotExported() ? 1 : 0;
+
+        rootCounters.total++;
+        if (ExportStatsUtil.attributesContainFailedStatusMessage(attributes)) {
+            rootCounters.failed++;
+        } else if (!ExportStatsUtil.attributesContainFileNameAndSuccessfulTransformation(attributes)) {
+            rootCounters.notExported++;
+        }
+        if (ExportNodeResultStatus.EXPORTED.toString().equals(attributes.get(ATTR_EXPORT_STATUS))) {
+            rootCounters.exported++;
+        }
+        numberOfMosExported += getLongAttribute(attributes, ATTR_NUMBER_OF_MOS);
+        dpsReadDuration += getLongAttribute(attributes, ATTR_DPS_READ_DURATION);
+
+        nodesExported += rootCounters.isExported() ? 1 : 0;
+        nodesNotExported += rootCounters.isNotExported() ? 1 : 0;
+    }
+
+    private static long getLongAttribute(final Map<String, Object> attributes, final String attributeName) {
+        final Number value = (Number) attributes.get(attributeName);
+        return value == null ? 0L : value.longValue();
+    }
+
+    /**
+     * Counters of the NodeExportResult POs of a root FDN.
+     */
+    private static class RootCounters {
+        private int total;
+        private int failed;
+        private int notExported;
+        private int exported;
+
+        private boolean isNotExported() {
+            return (failed > 0) || ((notExported > 0) && (notExported == total));
+        }
+
+        private boolean isExported() {
+            return !isNotExported() && (exported > 0);
+        }
+    }
+}
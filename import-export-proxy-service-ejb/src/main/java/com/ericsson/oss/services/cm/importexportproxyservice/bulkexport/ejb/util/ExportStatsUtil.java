@@ -93,16 +93,52 @@ public final class ExportStatsUtil {
 
     public static boolean persistenceObjectContainsFailedStatusMessage(final PersistenceObject nodeExportResult) {
         return (nodeExportResult != null)
-                && ((String) nodeExportResult.getAttribute(ATTR_EXPORT_STATUS) == ExportNodeResultStatus.NOT_EXPORTED.toString())
-                && !((String) nodeExportResult.getAttribute(ATTR_STATUS_MESSAGE)).isEmpty()
-                && !((String) nodeExportResult.getAttribute(ATTR_STATUS_MESSAGE)).contains(NOT_TRANSFORMED_NO_MOS_EXPORT_STATUS_MESSAGE);
+                && isFailedStatusMessage((String) nodeExportResult.getAttribute(ATTR_EXPORT_STATUS),
+                        (String) nodeExportResult.getAttribute(ATTR_STATUS_MESSAGE));
     }
 
     public static boolean persistenceObjectContainsFileNameAndSuccessfulTransformation(final PersistenceObject nodeExportResult) {
         return (nodeExportResult != null)
-                && ((String) nodeExportResult.getAttribute(ATTR_EXPORT_STATUS)).equals(ExportNodeResultStatus.EXPORTED.toString())
-                && ((String) nodeExportResult.getAttribute(ATTR_FILE_NAME) != null)
-                && !((String) nodeExportResult.getAttribute(ATTR_FILE_NAME)).isEmpty();
+                && isFileNameAndSuccessfulTransformation((String) nodeExportResult.getAttribute(ATTR_EXPORT_STATUS),
+                        (String) nodeExportResult.getAttribute(ATTR_FILE_NAME));
+    }
+
+    /**
+     * Same check as {@link #persistenceObjectContainsFailedStatusMessage(PersistenceObject)} on the attributes of a NodeExportResult PO.
+     *
+     * @param nodeExportResultAttributes
+     *            attributes of the NodeExportResult PO
+     * @return true if the NodeExportResult is not exported with a failure status message.
+     */
+    public static boolean attributesContainFailedStatusMessage(final Map<String, Object> nodeExportResultAttributes) {
+        return isFailedStatusMessage((String) nodeExportResultAttributes.get(ATTR_EXPORT_STATUS),
+                (String) nodeExportResultAttributes.get(ATTR_STATUS_MESSAGE));
+    }
+
+    /**
+     * Same check as {@link #persistenceObjectContainsFileNameAndSuccessfulTransformation(PersistenceObject)} on the attributes of a
+     * NodeExportResult PO.
+     *
+     * @param nodeExportResultAttributes
+     *            attributes of the NodeExportResult PO
+     * @return true if the NodeExportResult is exported to a file.
+     */
+    public static boolean attributesContainFileNameAndSuccessfulTransformation(final Map<String, Object> nodeExportResultAttributes) {
+        return isFileNameAndSuccessfulTransformation((String) nodeExportResultAttributes.get(ATTR_EXPORT_STATUS),
+                (String) nodeExportResultAttributes.get(ATTR_FILE_NAME));
+    }
+
+    private static boolean isFailedStatusMessage(final String exportStatus, final String statusMessage) {
+        return ExportNodeResultStatus.NOT_EXPORTED.toString().equals(exportStatus)
+                && (statusMessage != null)
+                && !statusMessage.isEmpty()
+                && !statusMessage.contains(NOT_TRANSFORMED_NO_MOS_EXPORT_STATUS_MESSAGE);
+    }
+
+    private static boolean isFileNameAndSuccessfulTransformation(final String exportStatus, final String fileName) {
+        return exportStatus.equals(ExportNodeResultStatus.EXPORTED.toString())
+                && (fileName != null)
+                && !fileName.isEmpty();
     }
 
     public static Map<String, List<PersistenceObject>> groupPersistenceObjectsIntoRootMos(final List<PersistenceObject> persistenceObjects) {
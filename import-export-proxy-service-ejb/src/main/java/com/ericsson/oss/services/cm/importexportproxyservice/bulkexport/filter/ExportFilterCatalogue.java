@@ -0,0 +1,154 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.filter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+
+import com.ericsson.oss.itpf.modeling.common.info.ModelInfo;
+import com.ericsson.oss.itpf.modeling.common.info.ModelVersionInfo;
+import com.ericsson.oss.itpf.modeling.common.info.SimpleVersionInfo;
+import com.ericsson.oss.itpf.modeling.common.info.XyzModelVersionInfo;
+import com.ericsson.oss.itpf.modeling.modelservice.ModelService;
+import com.ericsson.oss.itpf.modeling.modelservice.direct.DirectModelAccess;
+import com.ericsson.oss.itpf.modeling.modelservice.meta.ModelMetaInformation;
+import com.ericsson.oss.itpf.modeling.schema.gen.oss_common.UserExposureType;
+import com.ericsson.oss.itpf.modeling.schema.util.SchemaConstants;
+import com.ericsson.oss.services.cm.export.api.ExportFilter;
+import com.ericsson.oss.services.cm.export.api.ExportFilterWithDescription;
+import com.ericsson.oss.services.cm.importexportproxyservice.util.ModelCacheRefresher;
+import com.ericsson.oss.services.cm.importexportproxyservice.util.RefreshingModelValue;
+import com.ericsson.oss.services.exportservice.modeling.schema.gen.exs_exportfilter.ExportServiceFilterDefinition;
+import com.ericsson.oss.services.exportservice.modeling.schema.gen.exs_exportfilter.PrimaryType;
+
+/**
+ * Catalogue of the predefined export filters deployed in the model service.
+ * <p>
+ * The filter definitions are read from the model service in a single snapshot, which holds the MO types of every filter and the
+ * lists of the filters shown to the users. A new snapshot is built in the background a while after the current one, so that the
+ * filters deployed later are seen, and replaces the current snapshot at once.
+ */
+@ApplicationScoped
+public class ExportFilterCatalogue {
+    private static final String PREDEFINED_EXPORT_FILTER_URN = "/" + SchemaConstants.EXS_EXPORTFILTER + "/*/*/*";
+    private static final String ENIQ_FILTERS_URN = "/" + SchemaConstants.EXS_EXPORTFILTER + "/EniqTopologyService/*/*";
+
+    @Inject
+    private ModelService modelService;
+
+    @Inject
+    private ModelCacheRefresher modelCacheRefresher;
+
+    @Inject
+    private Logger logger;
+
+    private final RefreshingModelValue<Snapshot> snapshot = new RefreshingModelValue<>(this::buildSnapshot);
+
+    public List<ExportFilter> getPredefinedExportFilters() {
+        return new ArrayList<>(getSnapshot().exportFilters);
+    }
+
+    public List<ExportFilterWithDescription> getPredefinedExportFiltersWithDescriptions() {
+        return new ArrayList<>(getSnapshot().exportFiltersWithDescriptions);
+    }
+
+    /**
+     * Gets the primary types included in an export filter.
+     *
+     * @param filterModelInfo
+     *            model info of the export filter
+     * @return the primary types included in the filter
+     */
+    public List<PrimaryType> getIncludedPrimaryTypes(final ModelInfo filterModelInfo) {
+        final List<PrimaryType> primaryTypes = getSnapshot().primaryTypesByFilter.get(filterModelInfo);
+        if (primaryTypes != null) {
+            return new ArrayList<>(primaryTypes);
+        }
+        final DirectModelAccess dma = modelService.getDirectAccess();
+        return getIncludedPrimaryTypes(dma.getAsJavaTree(filterModelInfo, ExportServiceFilterDefinition.class));
+    }
+
+    private Snapshot getSnapshot() {
+        return snapshot.get(modelCacheRefresher);
+    }
+
+    private Snapshot buildSnapshot() {
+        final long start = System.currentTimeMillis();
+        final ModelMetaInformation modelMetaInfo = modelService.getModelMetaInformation();
+        final DirectModelAccess dma = modelService.getDirectAccess();
+        final Collection<ModelInfo> filterModelInfos = modelMetaInfo.getModelsFromUrn(PREDEFINED_EXPORT_FILTER_URN);
+        final Set<ModelInfo> eniqFilterModelInfos = new HashSet<>(modelMetaInfo.getModelsFromUrn(ENIQ_FILTERS_URN));
+        final Map<ModelInfo, List<PrimaryType>> primaryTypesByFilter = new HashMap<>();
+        final List<ExportFilter> exportFilters = new ArrayList<>();
+        final List<ExportFilterWithDescription> exportFiltersWithDescriptions = new ArrayList<>();
+        for (final ModelInfo filterModelInfo : filterModelInfos) {
+            final ExportServiceFilterDefinition filterDefinition = dma.getAsJavaTree(filterModelInfo, ExportServiceFilterDefinition.class);
+            primaryTypesByFilter.put(filterModelInfo, Collections.unmodifiableList(getIncludedPrimaryTypes(filterDefinition)));
+            if (!eniqFilterModelInfos.contains(filterModelInfo) && !UserExposureType.NEVER.equals(filterDefinition.getUserExposure())) {
+                final String version = getVersion(filterModelInfo);
+                exportFilters.add(ExportFilter.createFilter(filterModelInfo.getNamespace(), filterModelInfo.getName(), version));
+                exportFiltersWithDescriptions.add(ExportFilterWithDescription.createFilterWithDescription(filterModelInfo.getNamespace(),
+                        filterModelInfo.getName(), version, filterDefinition.getDesc()));
+            }
+        }
+        Collections.sort(exportFiltersWithDescriptions, new ExportFilterComparator());
+        logger.debug("Export filter catalogue with [{}] filters built in [{}] ms", primaryTypesByFilter.size(),
+                System.currentTimeMillis() - start);
+        return new Snapshot(primaryTypesByFilter, exportFilters, exportFiltersWithDescriptions);
+    }
+
+    private static List<PrimaryType> getIncludedPrimaryTypes(final ExportServiceFilterDefinition filterDefinition) {
+        final List<PrimaryType> primaryTypes = new ArrayList<>();
+        for (int index = 0; index < filterDefinition.getNamespace().size(); index++) {
+            primaryTypes.addAll(filterDefinition.getNamespace().get(index).getInclude());
+        }
+        return primaryTypes;
+    }
+
+    private static String getVersion(final ModelInfo filterModelInfo) {
+        String version = "";
+        final ModelVersionInfo versionInfo = filterModelInfo.getVersion();
+        if (versionInfo.isSimpleVersion()) {
+            final SimpleVersionInfo simpleVersionInfo = (SimpleVersionInfo) versionInfo;
+            version = simpleVersionInfo.getVersion();
+        } else if (versionInfo.isXyzVersion()) {
+            final XyzModelVersionInfo xyzModelVersionInfo = (XyzModelVersionInfo) versionInfo;
+            version = xyzModelVersionInfo.toString();
+        }
+        return version;
+    }
+
+    private static final class Snapshot {
+        private final Map<ModelInfo, List<PrimaryType>> primaryTypesByFilter;
+        private final List<ExportFilter> exportFilters;
+        private final List<ExportFilterWithDescription> exportFiltersWithDescriptions;
+
+        private Snapshot(final Map<ModelInfo, List<PrimaryType>> primaryTypesByFilter, final List<ExportFilter> exportFilters,
+                final List<ExportFilterWithDescription> exportFiltersWithDescriptions) {
+            this.primaryTypesByFilter = primaryTypesByFilter;
+            this.exportFilters = exportFilters;
+            this.exportFiltersWithDescriptions = exportFiltersWithDescriptions;
+        }
+    }
+}
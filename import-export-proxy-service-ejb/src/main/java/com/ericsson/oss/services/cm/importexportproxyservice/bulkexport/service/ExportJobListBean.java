@@ -0,0 +1,148 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.service;
+
+import static com.ericsson.oss.services.cm.export.api.BatchExportConstants.CONTEXT_SERVICE_USER_VALUE;
+import static com.ericsson.oss.services.cm.export.api.ExportServiceError.JOB_ID_NOT_FOUND;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.ejb.Stateless;
+import javax.ejb.TransactionAttribute;
+import javax.ejb.TransactionAttributeType;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+
+import com.ericsson.oss.itpf.sdk.context.ContextService;
+import com.ericsson.oss.itpf.sdk.core.retry.RetriableCommand;
+import com.ericsson.oss.itpf.sdk.core.retry.RetriableCommandException;
+import com.ericsson.oss.itpf.sdk.core.retry.RetryContext;
+import com.ericsson.oss.itpf.sdk.core.retry.RetryManager;
+import com.ericsson.oss.services.cm.export.api.ExportJobExecutionEntity;
+import com.ericsson.oss.services.cm.export.api.JobExecutionEntity;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.batch.persistence.JobPersistenceService;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.batch.persistence.JobRepositoryBean;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.log.ExportServiceLog;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.retry.DpsRetryPolicies;
+
+/**
+ * Bean to list the status of the export jobs.
+ * <p>
+ * The master job executions are read from the job repository with a single query and joined in memory with the JobOutput POs, which
+ * are read from DPS in a single pass. The node counters are only aggregated from the NodeExportResult POs for the jobs that are still
+ * running or whose JobOutput PO was created without node counters.
+ */
+@Stateless
+public class ExportJobListBean {
+
+    @Inject
+    private JobRepositoryBean jobRepositoryBean;
+
+    @Inject
+    private JobPersistenceService jobPersistenceService;
+
+    @Inject
+    private ExportStatusBean exportStatusBean;
+
+    @Inject
+    private ExportServiceLog exportServiceLogger;
+
+    @Inject
+    private ContextService contextService;
+
+    @Inject
+    private RetryManager retryManager;
+
+    @Inject
+    private DpsRetryPolicies retryPolicy;
+
+    @Inject
+    private Logger logger;
+
+    /**
+     * Lists the status of the export jobs created within the given time window, one page at a time.
+     * <p>
+     * Without a time window nor a page limit, all the JobOutput POs are read, so that the jobs whose job execution is no longer in
+     * the job repository are listed as well. Otherwise only the JobOutput POs of the jobs of the page are read.
+     *
+     * @param createdFrom
+     *            inclusive lower bound of the job creation time, or null for no lower bound
+     * @param createdTo
+     *            exclusive upper bound of the job creation time, or null for no upper bound
+     * @param firstResult
+     *            position of the first job of the page
+     * @param maxResults
+     *            maximum number of jobs of the page, or a value lower than one for no limit
+     * @return the status of the export jobs of the page, in ascending job ID order
+     */
+    @TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
+    public List<ExportJobExecutionEntity> list(final Date createdFrom, final Date createdTo, final int firstResult, final int maxResults) {
+        final Map<Long, JobExecutionEntity> jobExecutions =
+                jobRepositoryBean.getMasterJobExecutions(createdFrom, createdTo, firstResult, maxResults);
+        final boolean allJobs = createdFrom == null && createdTo == null && firstResult <= 0 && maxResults < 1;
+        final Map<Long, ExportJobExecutionEntity> jobOutputEntities = getJobOutputEntities(allJobs ? null : jobExecutions);
+        return join(jobExecutions, jobOutputEntities);
+    }
+
+    private Map<Long, ExportJobExecutionEntity> getJobOutputEntities(final Map<Long, JobExecutionEntity> jobExecutions) {
+        return retryManager.executeCommand(retryPolicy.getRetryPolicy(), new RetriableCommand<Map<Long, ExportJobExecutionEntity>>() {
+            @Override
+            public Map<Long, ExportJobExecutionEntity> execute(final RetryContext retryContext) throws Exception {
+                try {
+                    if (jobExecutions == null) {
+                        return jobPersistenceService.mapJobOutputPosToExportJobExecutionEntities();
+                    }
+                    return jobPersistenceService.mapJobOutputPosToExportJobExecutionEntities(jobExecutions.keySet());
+                } catch (final RetriableCommandException e) {
+                    logger.error(retryPolicy.getException(e).getMessage());
+                    throw retryPolicy.getException(e);
+                }
+            }
+        });
+    }
+
+    private List<ExportJobExecutionEntity> join(final Map<Long, JobExecutionEntity> jobExecutions,
+            final Map<Long, ExportJobExecutionEntity> jobOutputEntities) {
+        final Map<Long, ExportJobExecutionEntity> executionEntities = new TreeMap<>();
+        for (final Map.Entry<Long, JobExecutionEntity> jobExecution : jobExecutions.entrySet()) {
+            final ExportJobExecutionEntity jobOutputEntity = jobOutputEntities.remove(jobExecution.getKey());
+            if (jobOutputEntity != null && jobOutputEntity.getExpectedNodesExported() > 0) {
+                executionEntities.put(jobExecution.getKey(), jobOutputEntity);
+            } else {
+                // Running jobs and jobs whose JobOutput PO was created without the node counters
+                executionEntities.put(jobExecution.getKey(), exportStatusBean.status(jobExecution.getValue(), jobOutputEntity));
+            }
+        }
+        // JobOutput POs left over have no job execution in the job repository
+        for (final Map.Entry<Long, ExportJobExecutionEntity> jobOutputEntity : jobOutputEntities.entrySet()) {
+            if (jobOutputEntity.getValue().getExpectedNodesExported() > 0) {
+                executionEntities.put(jobOutputEntity.getKey(), jobOutputEntity.getValue());
+            } else {
+                logInvalidJobExecution(jobOutputEntity.getKey());
+            }
+        }
+        return new ArrayList<>(executionEntities.values());
+    }
+
+    private void logInvalidJobExecution(final Long jobId) {
+        final String user = contextService.getContextValue(CONTEXT_SERVICE_USER_VALUE);
+        final String message = String.format("JobExecution is not valid for job id %s, job will be cleaned up "
+                + "later by scheduled clean up", jobId);
+        exportServiceLogger.logErrorMessage(user, JOB_ID_NOT_FOUND.code(), message, "Export Status");
+    }
+}
@@ -0,0 +1,96 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.service;
+
+import static com.ericsson.oss.services.cm.export.api.ExportServiceError.EXPORT_GENERIC_ERROR;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.ericsson.oss.services.cm.export.api.ExportResponse;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.validation.ValidationException;
+
+/**
+ * Class used to encapsulate one page of the node results of an export job.
+ */
+public class ExportResultPage {
+
+    private static final String INVALID_CONTINUATION_TOKEN_MESSAGE = "Invalid continuation token [%s].";
+    private static final String INVALID_CONTINUATION_TOKEN_SOLUTION =
+            "Use the continuation token returned with the previous page of the export job result.";
+
+    private final ExportResponse exportResponse;
+    private final String continuationToken;
+
+    public ExportResultPage(final ExportResponse exportResponse, final String continuationToken) {
+        this.exportResponse = exportResponse;
+        this.continuationToken = continuationToken;
+    }
+
+    /**
+     * method used to get the node results of the page.
+     *
+     * @return
+     *         the export response holding the node results of the page.
+     */
+    public ExportResponse getExportResponse() {
+        return exportResponse;
+    }
+
+    /**
+     * method used to get the token to request the next page.
+     *
+     * @return
+     *         the continuation token, or null if this is the last page.
+     */
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    /**
+     * method used to check if there are more pages after this one.
+     *
+     * @return
+     *         true if there are more pages.
+     */
+    public boolean hasMorePages() {
+        return continuationToken != null;
+    }
+
+    /**
+     * method used to get the node root FDN of the last node of the previous page from its continuation token.
+     *
+     * @param continuationToken
+     *            the token returned with the previous page
+     * @return
+     *         the node root FDN after which the page starts.
+     * @throws ValidationException
+     *             if the continuation token was not returned with a previous page.
+     */
+    public static String decodeContinuationToken(final String continuationToken) {
+        try {
+            final String nodeRootFdn = new String(Base64.getUrlDecoder().decode(continuationToken), StandardCharsets.UTF_8);
+            if (!nodeRootFdn.isEmpty()) {
+                return nodeRootFdn;
+            }
+        } catch (final IllegalArgumentException e) {
+            // falls through to the validation error below
+        }
+        throw new ValidationException(String.format(INVALID_CONTINUATION_TOKEN_MESSAGE, continuationToken),
+                INVALID_CONTINUATION_TOKEN_SOLUTION, EXPORT_GENERIC_ERROR.code());
+    }
+
+    static String encodeContinuationToken(final String nodeRootFdn) {
+        return Base64.getUrlEncoder().encodeToString(nodeRootFdn.getBytes(StandardCharsets.UTF_8));
+    }
+}
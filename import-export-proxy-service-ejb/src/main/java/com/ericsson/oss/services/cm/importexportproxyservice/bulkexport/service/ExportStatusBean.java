@@ -33,6 +33,7 @@ import com.ericsson.oss.services.cm.export.api.ExportNodeResult.ExportNodeResult
 import com.ericsson.oss.services.cm.export.api.ExportResponse;
 import com.ericsson.oss.services.cm.export.api.JobExecutionEntity;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.batch.persistence.JobPersistenceService;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.batch.persistence.NodeExportCounters;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.ejb.util.ExportStatsUtil;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.retry.DpsRetryPolicies;
 
@@ -68,12 +69,26 @@ public class ExportStatusBean {
                 }
             }
         });
+        final ExportJobExecutionEntity jobOutputEntity = jobOutputPo == null ? null : getStatusFromJobOutputPo(jobOutputPo);
+        return status(jobExecution, jobOutputEntity);
+    }
+
+    /**
+     * Gets the status of an export job whose JobOutput PO, if any, has already been read and mapped by the caller.
+     *
+     * @param jobExecution
+     *            the job execution of the master export job
+     * @param jobOutputEntity
+     *            the entity mapped from the JobOutput PO of the job, or null if the job has no JobOutput PO yet
+     * @return the status of the export job
+     */
+    public ExportJobExecutionEntity status(final JobExecutionEntity jobExecution, final ExportJobExecutionEntity jobOutputEntity) {
         final ExportJobExecutionEntity exportJobExecutionEntity;
 
-        if (jobOutputPo == null) {
+        if (jobOutputEntity == null) {
             exportJobExecutionEntity = getExecutionEntityForRunningJob(jobExecution);
         } else {
-            exportJobExecutionEntity = getStatusFromJobOutputPo(jobOutputPo);
+            exportJobExecutionEntity = jobOutputEntity;
             // Logic to maintain the backward compatibility for jobs created before this update
             // if the expected node exported counter is 0 then JobOuput PO was created without the node counters
             // TODO Remove this logic as soon as the main customers has upgraded ENM
@@ -93,10 +108,32 @@ public class ExportStatusBean {
         exportJobExecutionEntity.setFileName(EMPTY_STRING);
         final String userId = jobExecution.getJobParameters().getProperty(ATTR_USER_ID);
         exportJobExecutionEntity.setUserId(userId);
-        setNodeCounters(jobExecution, exportJobExecutionEntity);
+        setRunningJobNodeCounters(jobExecution, exportJobExecutionEntity);
         return exportJobExecutionEntity;
     }
 
+    private void setRunningJobNodeCounters(final JobExecutionEntity jobExecution, final ExportJobExecutionEntity exportJobExecutionEntity) {
+        final PersistenceObject jobInputPo = getMasterJobInputPo(jobExecution);
+        final NodeExportCounters nodeExportCounters =
+                retryManager.executeCommand(retryPolicy.getRetryPolicy(), new RetriableCommand<NodeExportCounters>() {
+                    @Override
+                    public NodeExportCounters execute(final RetryContext retryContext) throws Exception {
+                        try {
+                            return jobPersistenceService.getNodeExportCounters(jobExecution.getExecutionId());
+                        } catch (final RetriableCommandException e) {
+                            logger.error(retryPolicy.getException(e).getMessage());
+                            throw retryPolicy.getException(e);
+                        }
+                    }
+                });
+        exportJobExecutionEntity.setNodesNotExported(nodeExportCounters.getNodesNotExported());
+        exportJobExecutionEntity.setNumberOfMosExported(nodeExportCounters.getNumberOfMosExported());
+        exportJobExecutionEntity.setDpsReadDuration(nodeExportCounters.getDpsReadDuration());
+        exportJobExecutionEntity.setExpectedNodesExported(getExpectedNodesCount(jobInputPo));
+        exportJobExecutionEntity.setNodesNoMatchFound(getNodesNoMatchFoundCount(jobInputPo));
+        exportJobExecutionEntity.setNodesExported(nodeExportCounters.getNodesExported());
+    }
+
     private void setNodeCounters(final JobExecutionEntity jobExecution, final ExportJobExecutionEntity exportJobExecutionEntity) {
         final PersistenceObject jobInputPo = getMasterJobInputPo(jobExecution);
         final List<PersistenceObject> nodeExportResulPos =
@@ -129,12 +166,26 @@ public class ExportStatusBean {
         exportJobExecutionEntity.setNodesExported(nodesExportedCount);
     }
 
-    public ExportResponse result(final JobExecutionEntity jobExecution) {
-        final ExportResponse exportResponse = new ExportResponse();
+    /**
+     * Gets one page of the node results of an export job.
+     * <p>
+     * The NodeExportResult POs are iterated in node root FDN order and each node is classified as soon as all its POs have been read,
+     * so only the POs of one node and the node results of the page are held in memory. The nodes with no match found are returned in
+     * the first page. The continuation token is the node root FDN of the last node of the page, so the POs without a node root FDN are
+     * read separately and classified as one more node of the first page.
+     *
+     * @param jobExecution
+     *            the job execution of the master export job
+     * @param afterNodeRootFdn
+     *            the node root FDN decoded from the continuation token of the previous page, or null to get the first page
+     * @param pageSize
+     *            maximum number of exported and not exported node results of the page, or a value lower than one to get all of them
+     * @return the page of node results
+     * @see ExportResultPage#decodeContinuationToken(String)
+     */
+    public ExportResultPage result(final JobExecutionEntity jobExecution, final String afterNodeRootFdn, final int pageSize) {
         final long jobId = jobExecution.getExecutionId();
 
-        final PersistenceObject jobInputPo = getMasterJobInputPo(jobExecution);
-
         final PersistenceObject jobOutputPo = retryManager.executeCommand(retryPolicy.getRetryPolicy(), new RetriableCommand<PersistenceObject>() {
             @Override
             public PersistenceObject execute(final RetryContext retryContext) throws Exception {
@@ -147,28 +198,25 @@ public class ExportStatusBean {
             }
         });
 
-        final List<PersistenceObject> nodeExportResulPos =
-                retryManager.executeCommand(retryPolicy.getRetryPolicy(), new RetriableCommand<List<PersistenceObject>>() {
+        final ExportResultPage exportResultPage =
+                retryManager.executeCommand(retryPolicy.getRetryPolicy(), new RetriableCommand<ExportResultPage>() {
                     @Override
-                    public List<PersistenceObject> execute(final RetryContext retryContext) throws Exception {
+                    public ExportResultPage execute(final RetryContext retryContext) throws Exception {
                         try {
-                            return jobPersistenceService.findNodeExportResultPosByJobId(jobId);
+                            return mapNodeResults(jobId, afterNodeRootFdn, pageSize);
                         } catch (final RetriableCommandException e) {
                             logger.error(retryPolicy.getException(e).getMessage());
                             throw retryPolicy.getException(e);
                         }
                     }
                 });
-
-        final Map<String, List<PersistenceObject>> nodeToPoMap = ExportStatsUtil.groupPersistenceObjectsIntoRootMos(nodeExportResulPos);
-        final Set<ExportNodeResult> notExportedNodes = mapNotExportedNodes(nodeToPoMap);
-        final Set<ExportNodeResult> exportedNodes = mapExportedNodes(nodeToPoMap);
-        final Set<ExportNodeResult> noMathFoundNodes = mapNoMatchFoundNodes(jobInputPo);
-
+        final ExportResponse exportResponse = exportResultPage.getExportResponse();
         exportResponse.setJobId(jobId);
-        exportResponse.getExportedNodesResult().addAll(exportedNodes);
-        exportResponse.getNotExportedNodesResult().addAll(notExportedNodes);
-        exportResponse.getNoMatchFoundResult().addAll(noMathFoundNodes);
+
+        if (afterNodeRootFdn == null) {
+            final PersistenceObject jobInputPo = getMasterJobInputPo(jobExecution);
+            exportResponse.getNoMatchFoundResult().addAll(mapNoMatchFoundNodes(jobInputPo));
+        }
 
         // If there is no JobOutput PO we can't get the fileName
         if (jobOutputPo != null) {
@@ -176,7 +224,53 @@ public class ExportStatusBean {
             exportResponse.setFileName(fileName);
         }
 
-        return exportResponse;
+        return exportResultPage;
+    }
+
+    private ExportResultPage mapNodeResults(final long jobId, final String afterNodeRootFdn, final int pageSize) {
+        final ExportResponse exportResponse = new ExportResponse();
+        final Iterator<PersistenceObject> nodeExportResultPos = jobPersistenceService.iterateNodeExportResultPosByJobId(jobId, afterNodeRootFdn);
+        if (afterNodeRootFdn == null) {
+            final List<PersistenceObject> persistenceObjectsWithoutNodeRootFdn =
+                    jobPersistenceService.findNodeExportResultPosWithoutNodeRootFdnByJobId(jobId);
+            if (!persistenceObjectsWithoutNodeRootFdn.isEmpty()) {
+                addNodeResult(persistenceObjectsWithoutNodeRootFdn, exportResponse);
+            }
+        }
+        final List<PersistenceObject> nodePersistenceObjects = new ArrayList<>();
+        String nodeRootFdn = null;
+        int nodeResultsCount = 0;
+        while (nodeExportResultPos.hasNext()) {
+            final PersistenceObject nodeExportResultPo = nodeExportResultPos.next();
+            final String poNodeRootFdn = nodeExportResultPo.getAttribute(ATTR_NODE_ROOT_FDN);
+            if (!nodePersistenceObjects.isEmpty() && !nodeRootFdn.equals(poNodeRootFdn)) {
+                addNodeResult(nodePersistenceObjects, exportResponse);
+                nodeResultsCount++;
+                if (pageSize > 0 && nodeResultsCount >= pageSize) {
+                    return new ExportResultPage(exportResponse, ExportResultPage.encodeContinuationToken(nodeRootFdn));
+                }
+                nodePersistenceObjects.clear();
+            }
+            nodePersistenceObjects.add(nodeExportResultPo);
+            nodeRootFdn = poNodeRootFdn;
+        }
+        if (!nodePersistenceObjects.isEmpty()) {
+            addNodeResult(nodePersistenceObjects, exportResponse);
+        }
+        return new ExportResultPage(exportResponse, null);
+    }
+
+    private static void addNodeResult(final List<PersistenceObject> persistenceObjects, final ExportResponse exportResponse) {
+        if (isFailedExportNode(persistenceObjects)) {
+            final PersistenceObject nodeExportResultFound = persistenceObjects.get(persistenceObjects.size() - 1);
+            exportResponse.getNotExportedNodesResult().add(mapExportNodeResult(getNodeExportForNodeRootFdnIfFound(nodeExportResultFound,
+                    persistenceObjects)));
+        } else {
+            final PersistenceObject nodeExportResultForNodeCounters = getExportedProcessResult(persistenceObjects);
+            if (nodeExportResultForNodeCounters != null) {
+                exportResponse.getExportedNodesResult().add(mapExportNodeResult(nodeExportResultForNodeCounters));
+            }
+        }
     }
 
     private PersistenceObject getMasterJobInputPo(final JobExecutionEntity jobExecution) {
@@ -264,17 +358,8 @@ public class ExportStatusBean {
         final Set<ExportNodeResult> exportedNodes = new HashSet<>();
         final Set<String> allRoots = nodeToPoMap.keySet();
         for (final String root : allRoots) {
-            int notExportedCount = 0;
-            int failedTransformedCount = 0;
             final List<PersistenceObject> persistenceObjects = nodeToPoMap.get(root);
-            for (final PersistenceObject nodeExportResult : persistenceObjects) {
-                if (ExportStatsUtil.persistenceObjectContainsFailedStatusMessage(nodeExportResult)) {
-                    failedTransformedCount++;
-                } else if (!ExportStatsUtil.persistenceObjectContainsFileNameAndSuccessfulTransformation(nodeExportResult)) {
-                    notExportedCount++;
-                }
-            }
-            if (!ExportStatsUtil.isFailedExportNodeForGivenPersistenceObjects(failedTransformedCount, notExportedCount, persistenceObjects)) {
+            if (!isFailedExportNode(persistenceObjects)) {
                 final PersistenceObject nodeExportResultForNodeCounters = getExportedProcessResult(persistenceObjects);
                 if (nodeExportResultForNodeCounters != null) {
                     exportedNodes.add(mapExportNodeResult(nodeExportResultForNodeCounters));
@@ -288,19 +373,9 @@ public class ExportStatusBean {
         final Set<ExportNodeResult> notExportedNodes = new HashSet<>();
         final Set<String> allRoots = nodeToPoMap.keySet();
         for (final String root : allRoots) {
-            PersistenceObject nodeExportResultFound = null;
-            int notExportedCount = 0;
-            int failedTransformedCount = 0;
             final List<PersistenceObject> persistenceObjects = nodeToPoMap.get(root);
-            for (final PersistenceObject nodeExportResult : persistenceObjects) {
-                nodeExportResultFound = nodeExportResult;
-                if (ExportStatsUtil.persistenceObjectContainsFailedStatusMessage(nodeExportResult)) {
-                    failedTransformedCount++;
-                } else if (!ExportStatsUtil.persistenceObjectContainsFileNameAndSuccessfulTransformation(nodeExportResult)) {
-                    notExportedCount++;
-                }
-            }
-            if (ExportStatsUtil.isFailedExportNodeForGivenPersistenceObjects(failedTransformedCount, notExportedCount, persistenceObjects)) {
+            final PersistenceObject nodeExportResultFound = persistenceObjects.get(persistenceObjects.size() - 1);
+            if (isFailedExportNode(persistenceObjects)) {
                 final PersistenceObject nodeExportResultForNodeCounters =
                         getNodeExportForNodeRootFdnIfFound(nodeExportResultFound, persistenceObjects);
                 if (nodeExportResultForNodeCounters != null) {
@@ -311,6 +386,19 @@ public class ExportStatusBean {
         return notExportedNodes;
     }
 
+    private static boolean isFailedExportNode(final List<PersistenceObject> persistenceObjects) {
+        int notExportedCount = 0;
+        int failedTransformedCount = 0;
+        for (final PersistenceObject nodeExportResult : persistenceObjects) {
+            if (ExportStatsUtil.persistenceObjectContainsFailedStatusMessage(nodeExportResult)) {
+                failedTransformedCount++;
+            } else if (!ExportStatsUtil.persistenceObjectContainsFileNameAndSuccessfulTransformation(nodeExportResult)) {
+                notExportedCount++;
+            }
+        }
+        return ExportStatsUtil.isFailedExportNodeForGivenPersistenceObjects(failedTransformedCount, notExportedCount, persistenceObjects);
+    }
+
     private static ExportNodeResult mapExportNodeResult(final PersistenceObject nodeExportResult) {
         final String nodeName = nodeExportResult.getAttribute(ATTR_NODE_NAME);
         final String fdn = nodeExportResult.getAttribute(ATTR_NODE_ROOT_FDN);
@@ -23,9 +23,13 @@ import java.util.regex.Pattern;
 
 import com.ericsson.oss.services.cm.export.transformer.api.IncludeExcludeMoFilteringType;
 import com.ericsson.oss.services.cm.export.transformer.api.MoSpecification.AutoAttributeList;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.userfilter.validation.UserFilterClause;
 
 /**
  * Container for all individual Managed Object filter specifications in a User Defined Filter.
+ * <p>
+ * The clauses are parsed in a single scan by {@link UserFilterClause}. The clauses which do not match the user defined filter
+ * grammar, which are rejected when the filter is validated, are still read element by element as before.
  */
 public class MoSpecificationContainer {
     private static final String ATTRIBUTE_SEPARATOR = ".";
@@ -69,16 +73,35 @@ public class MoSpecificationContainer {
     private void buildMapOfMoSpecifications(final String userFilterFileContent) {
         final String[] filterClauses = userFilterFileContent.split(MO_CLASS_SEPARATOR);
         for (final String filterClause : filterClauses) {
-            final Map<String, Object> moSpecificationMap = generateMoSpecification(filterClause.trim());
-            List<Map<String, Object>> listOfMoSpecificationMap = new ArrayList<>();
-            if (!mapOfMoSpecifications.containsKey(moSpecificationMap.get(ATTR_EXPORT_FILTER_MODEL_CLASS_NAME))) {
-                listOfMoSpecificationMap.add(moSpecificationMap);
-            } else {
-                listOfMoSpecificationMap = mapOfMoSpecifications.get(moSpecificationMap.get(ATTR_EXPORT_FILTER_MODEL_CLASS_NAME));
-                listOfMoSpecificationMap.add(moSpecificationMap);
+            final String filterClauseTrimmed = filterClause.trim();
+            final UserFilterClause userFilterClause = UserFilterClause.parse(filterClauseTrimmed);
+            final Map<String, Object> moSpecificationMap = userFilterClause != null
+                    ? generateMoSpecification(userFilterClause)
+                    : generateMoSpecification(filterClauseTrimmed);
+            final String moClass = moSpecificationMap.get(ATTR_EXPORT_FILTER_MODEL_CLASS_NAME).toString();
+            List<Map<String, Object>> listOfMoSpecificationMap = mapOfMoSpecifications.get(moClass);
+            if (listOfMoSpecificationMap == null) {
+                listOfMoSpecificationMap = new ArrayList<>();
+                mapOfMoSpecifications.put(moClass, listOfMoSpecificationMap);
             }
-            mapOfMoSpecifications.put(moSpecificationMap.get(ATTR_EXPORT_FILTER_MODEL_CLASS_NAME).toString(), listOfMoSpecificationMap);
+            listOfMoSpecificationMap.add(moSpecificationMap);
+        }
+    }
+
+    private static Map<String, Object> generateMoSpecification(final UserFilterClause userFilterClause) {
+        final Map<String, Object> moSpecificationMap = new HashMap<>();
+        moSpecificationMap.put(ATTR_EXPORT_FILTER_MODEL_NAME, null);
+        moSpecificationMap.put(ATTR_EXPORT_FILTER_MODEL_CLASS_NAME, userFilterClause.getMoClass());
+        moSpecificationMap.put(ATTR_EXPORT_FILTER_NAME_SPACE, null);
+        moSpecificationMap.put(ATTR_EXPORT_FILTER_MODEL_VERSION, null);
+        moSpecificationMap.put(INCLUDE_EXCLUDE_MO_FILTERING_TYPE, userFilterClause.getIncludeExcludeMoFilteringType().name());
+        moSpecificationMap.put(MEMBER_MO_ATTRIBUTE_SELECTOR, userFilterClause.getAutoAttributeList().name());
+        final List<Map<String, Object>> moAttributeSpecifications = new ArrayList<>();
+        for (final String attributeName : userFilterClause.getAttributeNames()) {
+            moAttributeSpecifications.add(generateMoAttributeSpecification(attributeName));
         }
+        moSpecificationMap.put(MEMBER_ATTRIBUTE_SPECIFICATIONS_LIST, moAttributeSpecifications);
+        return moSpecificationMap;
     }
 
     private Map<String, Object> generateMoSpecification(final String filterClause) {
@@ -142,16 +165,20 @@ public class MoSpecificationContainer {
             final String[] attrList = attributeSpec.split(COMMA);
             for (final String attr : attrList) {
                 if (!isSpecialToken(attr)) {
-                    final Map<String, Object> moAttributeSpecificationMap = new HashMap<>();
-                    moAttributeSpecificationMap.put(MEMBER_MO_ATTRIBUTE_NAME, attr);
-                    moAttributeSpecificationMap.put(MEMBER_MO_ATTRIBUTE_TYPE, "String");
-                    moAttributeSpecifications.add(moAttributeSpecificationMap);
+                    moAttributeSpecifications.add(generateMoAttributeSpecification(attr));
                 }
             }
         }
         return moAttributeSpecifications;
     }
 
+    private static Map<String, Object> generateMoAttributeSpecification(final String attributeName) {
+        final Map<String, Object> moAttributeSpecificationMap = new HashMap<>();
+        moAttributeSpecificationMap.put(MEMBER_MO_ATTRIBUTE_NAME, attributeName);
+        moAttributeSpecificationMap.put(MEMBER_MO_ATTRIBUTE_TYPE, "String");
+        return moAttributeSpecificationMap;
+    }
+
     private boolean isSpecialToken(final String attr) {
         return STAR_TOKEN.equals(attr) || MANDATORY_ATTRIBUTES_TAG_TOKEN.equals(attr)
                 || WRITABLE_ATTRIBUTES_TAG_TOKEN.equals(attr);
@@ -31,14 +31,21 @@ import com.ericsson.oss.services.cm.export.transformer.api.MoSpecification;
 import com.ericsson.oss.services.cm.export.transformer.api.TransformerUserFilter;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.log.ExportServiceLog;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.validation.ValidationExportService;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 
 /**
  * Stateless EJB to handle utilities for user defined filters.
+ * <p>
+ * The MoSpecification maps are copied on write: a copy gets its own map of the MoSpecification members, but the strings and the
+ * attribute specification lists are interned, immutable and shared by all the copies and by the equal specifications of other
+ * filters.
  */
 @Stateless
 @TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
 public class UserFilterUtilitiesBean {
     private static final String EXPORT_RESOURCE = UserFilterUtilitiesBean.class.getSimpleName();
+    private static final Interner<Object> SHARED_VALUES = Interners.newWeakInterner();
 
     @Inject
     private ValidationExportService validationExportService;
@@ -77,7 +84,10 @@ public class UserFilterUtilitiesBean {
         if (!userFilterFileContent.equals(EMPTY_FILE)) {
             final long parseStartTime = System.currentTimeMillis();
             final MoSpecificationContainer filterSpecificationsContainer = new MoSpecificationContainer(userFilterFileContent);
-            final List<Map<String, Object>> moSpecificationMapList = filterSpecificationsContainer.getAllMoSpecifications();
+            final List<Map<String, Object>> moSpecificationMapList = new ArrayList<>();
+            for (final Map<String, Object> moSpecificationMap : filterSpecificationsContainer.getAllMoSpecifications()) {
+                moSpecificationMapList.add(copyMoSpecificationMap(moSpecificationMap));
+            }
             final long parseEndTime = System.currentTimeMillis();
             logFilterFileParseSummary(parseStartTime, parseEndTime);
             userFilterMap.put(MEMBER_MO_SPECIFICATIONS_LIST, moSpecificationMapList);
@@ -164,7 +174,7 @@ public class UserFilterUtilitiesBean {
     }
 
     /**
-     * Creates a copy of an MoSpecification map.
+     * Creates a copy of an MoSpecification map. The attribute specifications are shared with the original map and must not be modified.
      *
      * @param moSpecificationMap
      *            MoSpecification map to be copied.
@@ -180,35 +190,42 @@ public class UserFilterUtilitiesBean {
         final String attributeSelector = (String) moSpecificationMap.get(MEMBER_MO_ATTRIBUTE_SELECTOR);
         final String includeExcludeBehaviour = (String) moSpecificationMap.get(INCLUDE_EXCLUDE_MO_FILTERING_TYPE);
 
-        copiedMoSpecificationMap.put(ATTR_EXPORT_FILTER_MODEL_NAME, moName);
-        copiedMoSpecificationMap.put(ATTR_EXPORT_FILTER_MODEL_CLASS_NAME, moType);
-        copiedMoSpecificationMap.put(ATTR_EXPORT_FILTER_NAME_SPACE, namespace);
-        copiedMoSpecificationMap.put(ATTR_EXPORT_FILTER_MODEL_VERSION, version);
-        copiedMoSpecificationMap.put(MEMBER_MO_ATTRIBUTE_SELECTOR, attributeSelector);
-        copiedMoSpecificationMap.put(INCLUDE_EXCLUDE_MO_FILTERING_TYPE, includeExcludeBehaviour);
+        copiedMoSpecificationMap.put(ATTR_EXPORT_FILTER_MODEL_NAME, share(moName));
+        copiedMoSpecificationMap.put(ATTR_EXPORT_FILTER_MODEL_CLASS_NAME, share(moType));
+        copiedMoSpecificationMap.put(ATTR_EXPORT_FILTER_NAME_SPACE, share(namespace));
+        copiedMoSpecificationMap.put(ATTR_EXPORT_FILTER_MODEL_VERSION, share(version));
+        copiedMoSpecificationMap.put(MEMBER_MO_ATTRIBUTE_SELECTOR, share(attributeSelector));
+        copiedMoSpecificationMap.put(INCLUDE_EXCLUDE_MO_FILTERING_TYPE, share(includeExcludeBehaviour));
 
         final List<Map<String, Object>> moAttributeSpecificationMapList =
                 (List<Map<String, Object>>) moSpecificationMap.get(MEMBER_ATTRIBUTE_SPECIFICATIONS_LIST);
-        final List<Map<String, Object>> copiedMoAttributeSpecificationMapList = new ArrayList<>();
+        copiedMoSpecificationMap.put(MEMBER_ATTRIBUTE_SPECIFICATIONS_LIST, shareMoAttributeSpecificationMapList(moAttributeSpecificationMapList));
+        return copiedMoSpecificationMap;
+    }
 
+    private List<Map<String, Object>> shareMoAttributeSpecificationMapList(final List<Map<String, Object>> moAttributeSpecificationMapList) {
+        final List<Map<String, Object>> sharedMoAttributeSpecificationMapList = new ArrayList<>(moAttributeSpecificationMapList.size());
         for (final Map<String, Object> moAttributeSpecificationMap : moAttributeSpecificationMapList) {
-            final Map<String, Object> copiedMoAttributeSpecificationMap = copyMoAttributeSpecificationMap(moAttributeSpecificationMap);
-            copiedMoAttributeSpecificationMapList.add(copiedMoAttributeSpecificationMap);
+            sharedMoAttributeSpecificationMapList.add(shareMoAttributeSpecificationMap(moAttributeSpecificationMap));
         }
-        copiedMoSpecificationMap.put(MEMBER_ATTRIBUTE_SPECIFICATIONS_LIST, copiedMoAttributeSpecificationMapList);
-        return copiedMoSpecificationMap;
+        return share(Collections.unmodifiableList(sharedMoAttributeSpecificationMapList));
     }
 
-    private Map<String, Object> copyMoAttributeSpecificationMap(final Map<String, Object> moAttributeSpecificationMap) {
+    private Map<String, Object> shareMoAttributeSpecificationMap(final Map<String, Object> moAttributeSpecificationMap) {
         final Map<String, Object> copiedAttributeSpecificationMap = new HashMap<>();
 
         final String attributeName = (String) moAttributeSpecificationMap.get(MEMBER_MO_ATTRIBUTE_NAME);
         final String attributeType = (String) moAttributeSpecificationMap.get(MEMBER_MO_ATTRIBUTE_TYPE);
 
-        copiedAttributeSpecificationMap.put(MEMBER_MO_ATTRIBUTE_NAME, attributeName);
-        copiedAttributeSpecificationMap.put(MEMBER_MO_ATTRIBUTE_TYPE, attributeType);
+        copiedAttributeSpecificationMap.put(MEMBER_MO_ATTRIBUTE_NAME, share(attributeName));
+        copiedAttributeSpecificationMap.put(MEMBER_MO_ATTRIBUTE_TYPE, share(attributeType));
+
+        return share(Collections.unmodifiableMap(copiedAttributeSpecificationMap));
+    }
 
-        return copiedAttributeSpecificationMap;
+    @SuppressWarnings("unchecked")
+    private static <T> T share(final T value) {
+        return value == null ? null : (T) SHARED_VALUES.intern(value);
     }
 
     private void logFilterFileParseSummary(final long parseStartTime, final long parseEndTime) {
@@ -0,0 +1,110 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.userfilter.validation;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+
+import com.ericsson.oss.itpf.modeling.common.info.ModelInfo;
+import com.ericsson.oss.itpf.modeling.modelservice.ModelService;
+import com.ericsson.oss.itpf.modeling.modelservice.meta.ModelMetaInformation;
+import com.ericsson.oss.itpf.modeling.schema.util.SchemaConstants;
+import com.ericsson.oss.services.cm.importexportproxyservice.util.ModelCacheRefresher;
+import com.ericsson.oss.services.cm.importexportproxyservice.util.RefreshingModelValue;
+
+/**
+ * Case-insensitive index of the deployed primary type models by MO class name, read with a single scan of the model repository.
+ * <p>
+ * The models of an MO class are indexed by namespace, name and version. The index is read again in the background a while after it is
+ * built, so that the models and the versions deployed later are seen, and the new index replaces the current one at once. An MO class
+ * which is not in the index is looked up in the model repository, so a model deployed since the index was built is found straight
+ * away.
+ */
+@ApplicationScoped
+public class MoClassModelInfoIndex {
+
+    private static final String ALL_PRIMARY_TYPES_URN = String.format("/%s/%s/%s/%s", SchemaConstants.DPS_PRIMARYTYPE,
+            ModelMetaInformation.ANY, ModelMetaInformation.ANY, ModelMetaInformation.ANY);
+
+    @Inject
+    private ModelService modelService;
+
+    @Inject
+    private ModelCacheRefresher modelCacheRefresher;
+
+    @Inject
+    private Logger logger;
+
+    private final RefreshingModelValue<Map<String, Collection<ModelInfo>>> modelInfosByMoClass = new RefreshingModelValue<>(
+            this::buildIndex);
+
+    /**
+     * Gets the model info of all the versions of the MO classes with a given name, ignoring the case of the name.
+     *
+     * @param moClassName
+     *            MO class name
+     * @return the model info of the MO classes, which may be empty
+     */
+    public Collection<ModelInfo> getModelInfos(final String moClassName) {
+        final Map<String, Collection<ModelInfo>> index = modelInfosByMoClass.get(modelCacheRefresher);
+        final String key = moClassName.toLowerCase(Locale.ROOT);
+        final Collection<ModelInfo> modelInfos = index.get(key);
+        if (modelInfos != null) {
+            return modelInfos;
+        }
+        final String modelUrn = String.format("/%s/%s/%s/%s", SchemaConstants.DPS_PRIMARYTYPE, ModelMetaInformation.ANY, moClassName,
+                ModelMetaInformation.ANY);
+        final Collection<ModelInfo> deployedModelInfos = modelService.getModelMetaInformation().getModelsFromUrnIgnoreCase(modelUrn);
+        if (!deployedModelInfos.isEmpty()) {
+            final Map<String, ModelInfo> modelInfosByVersion = new LinkedHashMap<>();
+            for (final ModelInfo modelInfo : deployedModelInfos) {
+                modelInfosByVersion.put(getVersionKey(modelInfo), modelInfo);
+            }
+            index.put(key, Collections.unmodifiableCollection(modelInfosByVersion.values()));
+        }
+        return deployedModelInfos;
+    }
+
+    private Map<String, Collection<ModelInfo>> buildIndex() {
+        final long start = System.currentTimeMillis();
+        final Map<String, Map<String, ModelInfo>> modelInfosByVersion = new LinkedHashMap<>();
+        for (final ModelInfo modelInfo : modelService.getModelMetaInformation().getModelsFromUrn(ALL_PRIMARY_TYPES_URN)) {
+            final String key = modelInfo.getName().toLowerCase(Locale.ROOT);
+            Map<String, ModelInfo> moClassModelInfos = modelInfosByVersion.get(key);
+            if (moClassModelInfos == null) {
+                moClassModelInfos = new LinkedHashMap<>();
+                modelInfosByVersion.put(key, moClassModelInfos);
+            }
+            moClassModelInfos.put(getVersionKey(modelInfo), modelInfo);
+        }
+        final Map<String, Collection<ModelInfo>> index = new ConcurrentHashMap<>();
+        for (final Map.Entry<String, Map<String, ModelInfo>> entry : modelInfosByVersion.entrySet()) {
+            index.put(entry.getKey(), Collections.unmodifiableCollection(entry.getValue().values()));
+        }
+        logger.debug("Time to index the models of [{}] MO classes was [{}] ms", index.size(), System.currentTimeMillis() - start);
+        return index;
+    }
+
+    private static String getVersionKey(final ModelInfo modelInfo) {
+        return modelInfo.getNamespace() + "/" + modelInfo.getName() + "/" + modelInfo.getVersion();
+    }
+}
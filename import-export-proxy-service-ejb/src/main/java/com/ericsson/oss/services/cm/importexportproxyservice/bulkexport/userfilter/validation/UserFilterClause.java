@@ -0,0 +1,240 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.userfilter.validation;
+
+import static com.ericsson.oss.services.cm.export.transformer.api.IncludeExcludeMoFilteringType.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.ericsson.oss.services.cm.export.transformer.api.IncludeExcludeMoFilteringType;
+import com.ericsson.oss.services.cm.export.transformer.api.MoSpecification.AutoAttributeList;
+
+/**
+ * A clause of a user defined filter, parsed in a single scan of the clause.
+ * <p>
+ * The accepted clauses are:
+ * <ul>
+ * <li>MO_CLASS.(* | &lt;m&gt; | &lt;w&gt; | MO_ATTRIBUTE | (LIST_ELEMENT{, LIST_ELEMENT}))</li>
+ * <li>MO_CLASS+.(* | &lt;m&gt; | &lt;w&gt;)</li>
+ * <li>!MO_CLASS</li>
+ * <li>!MO_CLASS+</li>
+ * </ul>
+ * where the MO class and attribute names are made of alphanumeric characters, -, $ and _, and a list element is a persistent
+ * attributes specifier or an attribute name, optionally surrounded by spaces.
+ */
+public final class UserFilterClause {
+    private static final char EXCLUDE_TOKEN = '!';
+    private static final char SUBTREE_TOKEN = '+';
+    private static final char ATTRIBUTE_SEPARATOR = '.';
+    private static final char LIST_START = '(';
+    private static final char LIST_END = ')';
+    private static final char LIST_SEPARATOR = ',';
+    private static final char LIST_ELEMENT_PADDING = ' ';
+    private static final char STAR_TOKEN = '*';
+    private static final char TAG_START = '<';
+    private static final char TAG_END = '>';
+    private static final char MANDATORY_ATTRIBUTES_TAG = 'm';
+    private static final char WRITABLE_ATTRIBUTES_TAG = 'w';
+
+    private final String moClass;
+    private final boolean exclude;
+    private final boolean subtree;
+    private final List<String> attributeNames = new ArrayList<>();
+    private boolean attributeList;
+    private int starCount;
+    private int tagCount;
+    private boolean mandatoryTag;
+    private boolean writableTag;
+    private boolean starLastInAttributeList;
+
+    private UserFilterClause(final String moClass, final boolean exclude, final boolean subtree) {
+        this.moClass = moClass;
+        this.exclude = exclude;
+        this.subtree = subtree;
+    }
+
+    /**
+     * Parses a trimmed user defined filter clause.
+     *
+     * @param clause
+     *            the trimmed clause
+     * @return the parsed clause, or null if the clause is not valid
+     */
+    public static UserFilterClause parse(final String clause) {
+        final int length = clause.length();
+        final boolean exclude = length > 0 && clause.charAt(0) == EXCLUDE_TOKEN;
+        final int moClassStart = exclude ? 1 : 0;
+        int index = skipName(clause, moClassStart);
+        if (index == moClassStart) {
+            return null;
+        }
+        final String moClass = clause.substring(moClassStart, index);
+        final boolean subtree = index < length && clause.charAt(index) == SUBTREE_TOKEN;
+        if (subtree) {
+            index++;
+        }
+        final UserFilterClause userFilterClause = new UserFilterClause(moClass, exclude, subtree);
+        if (exclude) {
+            return index == length ? userFilterClause : null;
+        }
+        if (index == length || clause.charAt(index) != ATTRIBUTE_SEPARATOR) {
+            return null;
+        }
+        index++;
+        if (index < length && clause.charAt(index) == LIST_START && !subtree) {
+            index = userFilterClause.parseAttributeList(clause, index + 1);
+        } else {
+            index = userFilterClause.parseAttribute(clause, index, !subtree);
+        }
+        return index == length ? userFilterClause : null;
+    }
+
+    public String getMoClass() {
+        return moClass;
+    }
+
+    public boolean isExclude() {
+        return exclude;
+    }
+
+    public boolean isSubtree() {
+        return subtree;
+    }
+
+    /**
+     * Gets the names of the attributes in the clause, in the order they are specified, without the persistent attributes specifiers.
+     *
+     * @return the attribute names
+     */
+    public List<String> getAttributeNames() {
+        return Collections.unmodifiableList(attributeNames);
+    }
+
+    /**
+     * Checks if the attribute list of the clause has a &lt;m&gt; or &lt;w&gt; specifier together with another persistent attributes
+     * specifier, which is not supported.
+     *
+     * @return true if the attribute list has multiple persistent attributes specifiers
+     */
+    public boolean hasMultiplePersistentSpecifiersInAttributeList() {
+        return attributeList && tagCount > 0 && tagCount + starCount > 1;
+    }
+
+    public IncludeExcludeMoFilteringType getIncludeExcludeMoFilteringType() {
+        if (subtree) {
+            return exclude ? EXCLUDE_DESCENDANT : INCLUDE_DESCENDANT;
+        }
+        if (exclude) {
+            return EXCLUDE;
+        }
+        return tagCount > 0 || attributeList && starCount > 0 ? INCLUDE_PERSISTENT_ATTRIBUTES : NONE;
+    }
+
+    /**
+     * Gets the attributes selected by the persistent attributes specifiers of the clause. A * in an attribute list selects the
+     * persisted attributes only when it is the last element and is not followed by spaces.
+     *
+     * @return the attributes selected by the clause
+     */
+    public AutoAttributeList getAutoAttributeList() {
+        if (!attributeList && starCount > 0 || starLastInAttributeList) {
+            return AutoAttributeList.PERSISTED_ATTRIBUTES;
+        } else if (mandatoryTag) {
+            return AutoAttributeList.MANDATORY_PERSISTED_ATTRIBUTES;
+        } else if (writableTag) {
+            return AutoAttributeList.WRITABLE_PERSISTED_ATTRIBUTES;
+        }
+        return AutoAttributeList.ALL_ATTRIBUTES;
+    }
+
+    private int parseAttributeList(final String clause, final int listStart) {
+        attributeList = true;
+        int index = listStart;
+        while (true) {
+            index = skipPadding(clause, index);
+            final int elementEnd = parseAttribute(clause, index, true);
+            if (elementEnd < 0) {
+                return -1;
+            }
+            final boolean star = elementEnd == index + 1 && clause.charAt(index) == STAR_TOKEN;
+            index = skipPadding(clause, elementEnd);
+            if (index == clause.length()) {
+                return -1;
+            }
+            if (clause.charAt(index) == LIST_END) {
+                starLastInAttributeList = star && index == elementEnd;
+                return index + 1;
+            }
+            if (clause.charAt(index) != LIST_SEPARATOR) {
+                return -1;
+            }
+            index++;
+        }
+    }
+
+    private int parseAttribute(final String clause, final int start, final boolean attributeNameAllowed) {
+        if (start < 0 || start >= clause.length()) {
+            return -1;
+        }
+        if (clause.charAt(start) == STAR_TOKEN) {
+            starCount++;
+            return start + 1;
+        }
+        if (clause.charAt(start) == TAG_START) {
+            return parseTag(clause, start);
+        }
+        final int end = attributeNameAllowed ? skipName(clause, start) : start;
+        if (end == start) {
+            return -1;
+        }
+        attributeNames.add(clause.substring(start, end));
+        return end;
+    }
+
+    private int parseTag(final String clause, final int start) {
+        if (start + 2 >= clause.length() || clause.charAt(start + 2) != TAG_END) {
+            return -1;
+        }
+        final char tag = clause.charAt(start + 1);
+        if (tag != MANDATORY_ATTRIBUTES_TAG && tag != WRITABLE_ATTRIBUTES_TAG) {
+            return -1;
+        }
+        tagCount++;
+        mandatoryTag |= tag == MANDATORY_ATTRIBUTES_TAG;
+        writableTag |= tag == WRITABLE_ATTRIBUTES_TAG;
+        return start + 3;
+    }
+
+    private static int skipName(final String clause, final int start) {
+        int index = start;
+        while (index < clause.length() && isNameCharacter(clause.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int skipPadding(final String clause, final int start) {
+        int index = start;
+        while (index < clause.length() && clause.charAt(index) == LIST_ELEMENT_PADDING) {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isNameCharacter(final char character) {
+        return character >= 'a' && character <= 'z' || character >= 'A' && character <= 'Z' || character >= '0' && character <= '9'
+                || character == '-' || character == '_' || character == '$';
+    }
+}
@@ -42,12 +42,15 @@ public class UserFilterModelHandler {
     public UserFilterModelData getUserFilterModelData(final List<Map<String, Object>> moSpecifications) {
         boolean moClassesCaseCorrectedInFilter = false;
         final List<Map<String, Object>> updatedMoSpecifications = new ArrayList<>();
+        final Map<String, Set<String>> matchingMoClassesByMoClassName = new HashMap<>();
         if (moSpecifications != null) {
             for (final Map<String, Object> moSpecification : moSpecifications) {
                 final String moClassName = (String) moSpecification.get(ATTR_EXPORT_FILTER_MODEL_CLASS_NAME);
-                final Collection<ModelInfo> allModelInfo = modelServiceHandler.getAllModelInfosForMoClassName(moClassName);
-
-                final Set<String> matchingMoClasses = getMatchingMoClassesFromModelInfo(allModelInfo);
+                Set<String> matchingMoClasses = matchingMoClassesByMoClassName.get(moClassName);
+                if (matchingMoClasses == null) {
+                    matchingMoClasses = getMatchingMoClassesFromModelInfo(modelServiceHandler.getAllModelInfosForMoClassName(moClassName));
+                    matchingMoClassesByMoClassName.put(moClassName, matchingMoClasses);
+                }
                 if (isCaseInsensitiveMoClassFound(moClassName, matchingMoClasses)) {
                     updatedMoSpecifications.addAll(copyMoSpecifications(matchingMoClasses, moSpecification));
                     moClassesCaseCorrectedInFilter = true;
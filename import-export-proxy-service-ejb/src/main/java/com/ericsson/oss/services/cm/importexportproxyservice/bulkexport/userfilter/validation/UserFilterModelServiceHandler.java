@@ -18,9 +18,6 @@ import javax.inject.Inject;
 import org.slf4j.Logger;
 
 import com.ericsson.oss.itpf.modeling.common.info.ModelInfo;
-import com.ericsson.oss.itpf.modeling.modelservice.ModelService;
-import com.ericsson.oss.itpf.modeling.modelservice.meta.ModelMetaInformation;
-import com.ericsson.oss.itpf.modeling.schema.util.SchemaConstants;
 
 /**
  * Class which handles interaction with Model Service.
@@ -28,13 +25,13 @@ import com.ericsson.oss.itpf.modeling.schema.util.SchemaConstants;
 public class UserFilterModelServiceHandler {
 
     @Inject
-    private ModelService modelService;
+    private MoClassModelInfoIndex moClassModelInfoIndex;
 
     @Inject
     private Logger logger;
 
     /**
-     * Fetches all model info for a provided MO type.
+     * Fetches all model info for a provided MO type, ignoring the case of the MO type, from the index of the deployed models.
      *
      * @param moClassName
      *            MO type to fetch model info for.
@@ -42,9 +39,7 @@ public class UserFilterModelServiceHandler {
      */
     public Collection<ModelInfo> getAllModelInfosForMoClassName(final String moClassName) {
         final long start = System.currentTimeMillis();
-        final String modelUrn = String.format("/%s/%s/%s/%s", SchemaConstants.DPS_PRIMARYTYPE, ModelMetaInformation.ANY, moClassName,
-                ModelMetaInformation.ANY);
-        final Collection<ModelInfo> allModelInfos = modelService.getModelMetaInformation().getModelsFromUrnIgnoreCase(modelUrn);
+        final Collection<ModelInfo> allModelInfos = moClassModelInfoIndex.getModelInfos(moClassName);
         logger.debug("Time to get model info for MO [{}] was [{}] ms", moClassName, System.currentTimeMillis() - start);
         return allModelInfos;
     }
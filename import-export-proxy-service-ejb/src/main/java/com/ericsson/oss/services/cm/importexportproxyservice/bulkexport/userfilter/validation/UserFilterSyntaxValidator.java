@@ -61,18 +61,6 @@ public final class UserFilterSyntaxValidator {
      * Pattern for accepted MO list elements.
      */
     private static final String MO_ATTRIBUTE_LIST_ELEMENT_PATTERN = "[ ]*" + MO_ATTRIBUTE_LIST_ELEMENT_PATTERN_WITH_STAR + "[ ]*";
-    /**
-     * Pattern for accepted MO attribute lists: (MO_ATTRIBUTE{1}(,MO_ATTRIBUTE){0..n}).
-     */
-    private static final String ATTRIBUTE_LIST_PATTERN = "\\("
-            + MO_ATTRIBUTE_LIST_ELEMENT_PATTERN + "("
-            + USER_DEFINED_FILTER_ELEMENTS_LIST_SEPARATOR
-            + MO_ATTRIBUTE_LIST_ELEMENT_PATTERN + ")*\\)";
-    /**
-     * Pattern for include MO Class clause.
-     */
-    private static final String INCLUDE_MO_CLASS_CLAUSE_PATTERN = MO_CLASS_PATTERN + USER_DEFINED_FILTER_ELEMENTS_SEPARATOR + "("
-            + USER_DEFINED_FILTER_PATTERN_PERSISTENT_ATTRIBUTES + "|" + MO_ATTRIBUTE_PATTERN + "|" + ATTRIBUTE_LIST_PATTERN + ")";
     /**
      * Pattern for exclude MO Class token.
      */
@@ -89,16 +77,6 @@ public final class UserFilterSyntaxValidator {
      * Pattern for exclude subtree MO Class clause.
      */
     private static final String EXCLUDE_SUBTREE_MO_CLASS_CLAUSE_PATTERN = EXCLUDE_MO_TOKEN + MO_CLASS_PATTERN + SUBTREE_TOKEN;
-    /**
-     * Pattern for include subtree MO Class clause.
-     */
-    private static final String INCLUDE_SUBTREE_MO_CLASS_CLAUSE_PATTERN = MO_CLASS_PATTERN + SUBTREE_TOKEN
-            + USER_DEFINED_FILTER_ELEMENTS_SEPARATOR + "(" + USER_DEFINED_FILTER_PATTERN_PERSISTENT_ATTRIBUTES + ")";
-    /**
-     * Pattern for accepted filter: MO_CLASS.(MO_PERSISTENT_ATTRIBUTES | MO_ATTRIBUTE_LIST | MO_ATTRIBUTE_NAME)
-     */
-    private static final String USER_DEFINED_FILTER_PATTERN = EXCLUDE_SUBTREE_MO_CLASS_CLAUSE_PATTERN + "|" + INCLUDE_SUBTREE_MO_CLASS_CLAUSE_PATTERN
-            + "|" + EXCLUDE_MO_CLASS_CLAUSE_PATTERN + "|" + INCLUDE_MO_CLASS_CLAUSE_PATTERN;
     /**
      * The number of criteria expected for an MO Class user filter clause with a single period.
      */
@@ -110,37 +88,31 @@ public final class UserFilterSyntaxValidator {
      * The root MO Classes which are invalid for include or exclude subtree MO class clause.
      */
     private static final String INVALID_ROOT_MO = "SubNetwork";
-    /**
-     * Pattern for invalid include subtree with root MO Class clause.
-     */
-    private static final String INVALID_INCLUDE_ROOT_MO_SUBTREE_PATTERN = INVALID_ROOT_MO + SUBTREE_TOKEN
-            + USER_DEFINED_FILTER_ELEMENTS_SEPARATOR + USER_DEFINED_FILTER_PATTERN_PERSISTENT_ATTRIBUTES;
-    /**
-     * Pattern for invalid exclude subtree with root MO Class clause.
-     */
-    private static final String INVALID_EXCLUDE_ROOT_MO_SUBTREE_PATTERN = EXCLUDE_MO_TOKEN + INVALID_ROOT_MO + SUBTREE_TOKEN;
-
-    private static final String INVALID_MULTIPLE_SPECIFIERS_IN_ATTRIBUTE_LIST_PATTERN = "((.*)\\((.*)(<[mw]>)(.*)(<[mw]>)(.*)\\)(.*)"
-            + "|(.*)\\((.*)(\\*)(.*)(<[mw]>)(.*)\\)(.*)|(.*)\\((.*)(<[mw]>)(.*)(\\*)(.*)\\)(.*))";
 
     private UserFilterSyntaxValidator() {}
 
+    /**
+     * Checks the clauses of a user defined filter, each parsed in a single scan by {@link UserFilterClause}. The clauses which are
+     * not valid are matched against the patterns of the filter elements only to report the cause of the error.
+     *
+     * @param userFilterFileContent
+     *            the user defined filter
+     */
     public static void checkFilterCompliantToExpectedPattern(final String userFilterFileContent) {
         final String[] criteriaRawArray = userFilterFileContent.split(USER_FILTER_SEPARATOR);
         boolean atLeastOneIncludeClause = false;
         boolean atLeastOneExcludeClause = false;
         for (final String criteriaRaw : criteriaRawArray) {
             final String criteriaRawTrimmed = criteriaRaw.trim();
-            if (!criteriaRawTrimmed.matches(USER_DEFINED_FILTER_PATTERN)) {
+            final UserFilterClause userFilterClause = UserFilterClause.parse(criteriaRawTrimmed);
+            if (userFilterClause == null) {
                 generateExceptionForInvalidUserFilterClausePattern(criteriaRaw, criteriaRawTrimmed);
-            } else if (criteriaRawTrimmed.matches(INVALID_INCLUDE_ROOT_MO_SUBTREE_PATTERN)
-                    || criteriaRawTrimmed.matches(INVALID_EXCLUDE_ROOT_MO_SUBTREE_PATTERN)) {
+            } else if (userFilterClause.isSubtree() && INVALID_ROOT_MO.equals(userFilterClause.getMoClass())) {
                 generateExceptionForUnsupportedRootMoClassWithSubtree(criteriaRawTrimmed);
-            } else if (criteriaRawTrimmed.matches(INVALID_MULTIPLE_SPECIFIERS_IN_ATTRIBUTE_LIST_PATTERN)) {
+            } else if (userFilterClause.hasMultiplePersistentSpecifiersInAttributeList()) {
                 generateExceptionForMultipleSpecifiersInAttributeList(criteriaRawTrimmed);
             } else {
-                if (criteriaRawTrimmed.matches(EXCLUDE_MO_CLASS_CLAUSE_PATTERN)
-                        || criteriaRawTrimmed.matches(EXCLUDE_SUBTREE_MO_CLASS_CLAUSE_PATTERN)) {
+                if (userFilterClause.isExclude()) {
                     atLeastOneExcludeClause = true;
                 } else {
                     atLeastOneIncludeClause = true;
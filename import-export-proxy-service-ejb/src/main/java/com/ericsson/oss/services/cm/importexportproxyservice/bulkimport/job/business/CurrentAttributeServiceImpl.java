@@ -20,9 +20,13 @@ import static com.ericsson.oss.services.cm.bulkimport.constant.ImportConstants.M
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.ejb.Stateless;
 import javax.inject.Inject;
@@ -56,6 +60,7 @@ import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.util.For
 @Stateless
 public class CurrentAttributeServiceImpl implements CurrentAttributeService {
     private static final FormatLogger LOGGER = new FormatLogger(LoggerFactory.getLogger(CurrentAttributeServiceImpl.class));
+    private static final Object UNREADABLE_ATTRIBUTE = new Object();
 
     @EServiceRef
     DataPersistenceService dps;
@@ -65,20 +70,86 @@ public class CurrentAttributeServiceImpl implements CurrentAttributeService {
 
     @Override
     public Map<String, Object> getCurrentAttributeValues(final ImportOperation operation, final boolean isNonPersistentAttrRequired) {
-        final Map<String, Object> currentAttributes = new HashMap<>();
+        return getCurrentAttributeValues(Collections.singletonList(operation), isNonPersistentAttrRequired).get(operation.getId());
+    }
+
+    @Override
+    public Map<Long, Map<String, Object>> getCurrentAttributeValues(final List<ImportOperation> operations,
+            final boolean isNonPersistentAttrRequired) {
+        final Map<Long, Map<String, Object>> currentAttributesByOperationId = new LinkedHashMap<>();
         final DataBucket dataBucket = dps.getLiveBucket();
-        final ManagedObject managedObject = dataBucket.findMoByFdn(operation.getFdn());
-        if (managedObject == null) {
-            LOGGER.debug("Managed object [{}] not found, returning null", operation.getFdn());
-            return null;
+        final Map<String, ManagedObject> managedObjects = new HashMap<>();
+        final Map<ModelInfo, PrimaryTypeSpecification> primaryTypeSpecifications = new HashMap<>();
+        for (final ImportOperation operation : operations) {
+            if (!managedObjects.containsKey(operation.getFdn())) {
+                managedObjects.put(operation.getFdn(), dataBucket.findMoByFdn(operation.getFdn()));
+            }
+            final ManagedObject managedObject = managedObjects.get(operation.getFdn());
+            if (managedObject == null) {
+                LOGGER.debug("Managed object [{}] not found, returning null", operation.getFdn());
+                continue;
+            }
+            final PrimaryTypeSpecification primaryTypeSpecification = getPrimaryTypeSpecification(operation, primaryTypeSpecifications);
+            final Map<String, Object> attributeValues = readAttributes(managedObject,
+                    getAttributeNamesToRead(operation, primaryTypeSpecification, isNonPersistentAttrRequired));
+            final Map<String, Object> currentAttributes = new HashMap<>();
+            currentAttributes.putAll(populateSimpleCurrentAttributes(operation, attributeValues, primaryTypeSpecification,
+                    isNonPersistentAttrRequired));
+            currentAttributes.putAll(populateComplexCurrentAttributes(operation, attributeValues, primaryTypeSpecification,
+                    isNonPersistentAttrRequired));
+            currentAttributesByOperationId.put(operation.getId(), currentAttributes);
         }
-        final PrimaryTypeSpecification primaryTypeSpecification = getPrimaryTypeSpecification(operation);
-        currentAttributes.putAll(populateSimpleCurrentAttributes(operation, managedObject, primaryTypeSpecification, isNonPersistentAttrRequired));
-        currentAttributes.putAll(populateComplexCurrentAttributes(operation, managedObject, primaryTypeSpecification, isNonPersistentAttrRequired));
-        return currentAttributes;
+        return currentAttributesByOperationId;
+    }
+
+    private Set<String> getAttributeNamesToRead(final ImportOperation operation, final PrimaryTypeSpecification primaryTypeSpecification,
+            final boolean isNonPersistentAttrRequired) {
+        final Set<String> attributeNames = new LinkedHashSet<>();
+        operation.getSimpleAttributes().forEach(simpleAttribute -> {
+            if (!isObsolete(simpleAttribute.getLifeCycleState())
+                    && !isNonPersistantAttribute(primaryTypeSpecification, simpleAttribute.getName(), isNonPersistentAttrRequired)
+                    && !isSensitiveAttribute(primaryTypeSpecification, simpleAttribute.getName())) {
+                attributeNames.add(simpleAttribute.getName());
+            }
+        });
+        operation.getComplexAttributes().forEach(complexAttribute -> {
+            if (!isObsolete(complexAttribute.getLifeCycleState())
+                    && !isNonPersistantAttribute(primaryTypeSpecification, complexAttribute.getName(), isNonPersistentAttrRequired)) {
+                attributeNames.add(complexAttribute.getName());
+            }
+        });
+        return attributeNames;
     }
 
-    private Map<String, Object> populateSimpleCurrentAttributes(final ImportOperation operation, final ManagedObject managedObject,
+    /*
+     * The attributes are read in one call. If the call fails, they are read one at a time, so that only the attributes that can't be
+     * read are left out, marked as unreadable.
+     */
+    private Map<String, Object> readAttributes(final ManagedObject managedObject, final Set<String> attributeNames) {
+        if (attributeNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            return managedObject.getAttributes(attributeNames);
+        } catch (final Exception bulkReadException) {
+            LOGGER.debug("Attributes of [{}] can't be read in one call, reading them one at a time", managedObject.getFdn(), bulkReadException);
+        }
+        final Map<String, Object> attributeValues = new HashMap<>();
+        for (final String attributeName : attributeNames) {
+            try {
+                attributeValues.put(attributeName, managedObject.getAttribute(attributeName));
+            } catch (final NotDefinedInModelException e) {
+                LOGGER.warn("Attribute [{}] is not defined in model, ignoring.", attributeName, e);
+                attributeValues.put(attributeName, UNREADABLE_ATTRIBUTE);
+            } catch (final Exception e) {
+                LOGGER.warn("Unexpected Exception occured while fetching Attribute [{}], ignoring.", attributeName, e);
+                attributeValues.put(attributeName, UNREADABLE_ATTRIBUTE);
+            }
+        }
+        return attributeValues;
+    }
+
+    private Map<String, Object> populateSimpleCurrentAttributes(final ImportOperation operation, final Map<String, Object> attributeValues,
             final PrimaryTypeSpecification primaryTypeSpecification, final boolean isNonPersistentAttrRequired) {
         final Map<String, Object> currentAttr = new HashMap<>();
         operation.getSimpleAttributes().forEach(simpleAttribute -> {
@@ -89,7 +160,7 @@ public class CurrentAttributeServiceImpl implements CurrentAttributeService {
             } else if (isNonPersistantAttribute(primaryTypeSpecification, attributeName, isNonPersistentAttrRequired)) {
                 LOGGER.trace("Get current value of attribute {} is skipped as the attribute is non-persistent.", attributeName);
                 currentAttr.put(attributeName, CURRENT_VALUE_FOR_NON_PERSISTENT_ATTRIBUTE);
-            } else {
+            } else if (attributeValues.get(attributeName) != UNREADABLE_ATTRIBUTE) {
                 try {
                     if (primaryTypeSpecification != null && primaryTypeSpecification.getAttributeSpecification(attributeName).isSensitive()) {
                         LOGGER.trace("Attribute is sensitive", attributeName);
@@ -97,9 +168,9 @@ public class CurrentAttributeServiceImpl implements CurrentAttributeService {
                     } else {
                         LOGGER.trace("Get value of attribute [{}]", attributeName);
                         if (simpleAttribute.getNamespace() != null && !simpleAttribute.getNamespace().isEmpty()) {
-                            currentAttr.put(attributeName, applyConversionForEnumAttribute(managedObject.getAttribute(attributeName)));
+                            currentAttr.put(attributeName, applyConversionForEnumAttribute(attributeValues.get(attributeName)));
                         } else {
-                            currentAttr.put(attributeName, managedObject.getAttribute(attributeName));
+                            currentAttr.put(attributeName, attributeValues.get(attributeName));
                         }
                     }
                 } catch (final NotDefinedInModelException e) {
@@ -116,10 +187,10 @@ public class CurrentAttributeServiceImpl implements CurrentAttributeService {
     private void applySensitiveRuleOrGoDefault(final ComplexAttributeV2 complexAttribute,
             final PrimaryTypeSpecification primaryTypeSpecification,
             final ImportOperation importOperation,
-            final ManagedObject managedObject,
+            final Map<String, Object> attributeValues,
             final Map<String, Object> currentAttr) {
         final String attributeName = complexAttribute.getName();
-        final Object attributeCurrentValue = managedObject.getAttribute(attributeName);
+        final Object attributeCurrentValue = attributeValues.get(attributeName);
         if (primaryTypeSpecification == null) {
             currentAttr.put(attributeName, attributeCurrentValue);
             return;
@@ -155,7 +226,7 @@ public class CurrentAttributeServiceImpl implements CurrentAttributeService {
         }
     }
 
-    private Map<String, Object> populateComplexCurrentAttributes(final ImportOperation operation, final ManagedObject managedObject,
+    private Map<String, Object> populateComplexCurrentAttributes(final ImportOperation operation, final Map<String, Object> attributeValues,
             final PrimaryTypeSpecification primaryTypeSpecification, final boolean isNonPersistentAttrRequired) {
         final Map<String, Object> currentAttr = new HashMap<>();
         operation.getComplexAttributes().forEach(complexAttribute -> {
@@ -166,9 +237,9 @@ public class CurrentAttributeServiceImpl implements CurrentAttributeService {
             } else if (isNonPersistantAttribute(primaryTypeSpecification, attributeName, isNonPersistentAttrRequired)) {
                 LOGGER.trace("Get current value of attribute {} is skipped as the attribute is non-persistent.", attributeName);
                 currentAttr.put(attributeName, CURRENT_VALUE_FOR_NON_PERSISTENT_ATTRIBUTE);
-            } else {
+            } else if (attributeValues.get(attributeName) != UNREADABLE_ATTRIBUTE) {
                 try {
-                    applySensitiveRuleOrGoDefault(complexAttribute, primaryTypeSpecification, operation, managedObject, currentAttr);
+                    applySensitiveRuleOrGoDefault(complexAttribute, primaryTypeSpecification, operation, attributeValues, currentAttr);
                 } catch (final NotDefinedInModelException e) {
                     LOGGER.warn("Attribute [{}] is not defined in model, ignoring.", attributeName, e);
                 } catch (final Exception e) {
@@ -179,11 +250,16 @@ public class CurrentAttributeServiceImpl implements CurrentAttributeService {
         return currentAttr;
     }
 
-    private PrimaryTypeSpecification getPrimaryTypeSpecification(final ImportOperation operation) {
-        if (null != getModelInfo(operation)) {
-            return modelServiceHandler.getPrimaryTypeSpecification(getModelInfo(operation));
+    private PrimaryTypeSpecification getPrimaryTypeSpecification(final ImportOperation operation,
+            final Map<ModelInfo, PrimaryTypeSpecification> primaryTypeSpecifications) {
+        final ModelInfo modelInfo = getModelInfo(operation);
+        if (null == modelInfo) {
+            return null;
+        }
+        if (!primaryTypeSpecifications.containsKey(modelInfo)) {
+            primaryTypeSpecifications.put(modelInfo, modelServiceHandler.getPrimaryTypeSpecification(modelInfo));
         }
-        return null;
+        return primaryTypeSpecifications.get(modelInfo);
     }
 
     private boolean isObsolete(final String lifeCycleState) {
@@ -203,6 +279,21 @@ public class CurrentAttributeServiceImpl implements CurrentAttributeService {
         return false;
     }
 
+    /*
+     * The sensitive simple attributes are masked, so their values are never read.
+     */
+    private boolean isSensitiveAttribute(final PrimaryTypeSpecification primaryTypeSpecification, final String attributeName) {
+        if (primaryTypeSpecification == null) {
+            return false;
+        }
+        try {
+            return primaryTypeSpecification.getAttributeSpecification(attributeName).isSensitive();
+        } catch (final Exception exception) {
+            LOGGER.debug("Sensitivity of attribute [{}] is unknown", attributeName, exception);
+        }
+        return false;
+    }
+
     private ModelInfo getModelInfo(final ImportOperation operation) {
         if (operation.getImportOperationModelInfo() == null || operation.getImportOperationModelInfo().getModelName() == null
                 || operation.getImportOperationModelInfo().getModelName().isEmpty()) {
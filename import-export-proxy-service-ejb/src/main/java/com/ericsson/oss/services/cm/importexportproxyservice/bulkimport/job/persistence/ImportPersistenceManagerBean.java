@@ -43,6 +43,7 @@ import javax.persistence.PersistenceContext;
 import javax.persistence.Query;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.JoinType;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
@@ -106,6 +107,9 @@ public class ImportPersistenceManagerBean {
             JobStatus.VALIDATING.getStatus(), JobStatus.EXECUTING.getStatus(), AsyncBulkImportJobStatus.IN_PROGRESS.toString());
     private static final int BYTES_IN_ONE_MB = 1024 * 1024;
     private static final String METHOD_NAME = "Method name: {}";
+    private static final String SIMPLE_ATTRIBUTES = "simpleAttributes";
+    private static final String COMPLEX_ATTRIBUTES = "complexAttributes";
+    private static final int OPERATIONS_CHUNK_SIZE = 500;
 
     @Inject
     @PersistenceContext(unitName = "importPersistenceUnit")
@@ -351,9 +355,12 @@ public class ImportPersistenceManagerBean {
     @TransactionAttribute(TransactionAttributeType.REQUIRED)
     public List<ImportOperation> getAllImportOperationsWithAttributesLoaded(final long jobId) {
         LOGGER.info("Getting all operations for jobId. Method name: {}", "getAllImportOperationsWithAttributesLoaded");
-        final List<ImportOperation> importOperations = getAllImportOperations(jobId);
-        for (final ImportOperation importOperation : importOperations) {
-            ensureAttributesFetched(importOperation);
+        final List<ImportOperation> importOperations = new ArrayList<>();
+        Long lastId = null;
+        List<Long> ids;
+        while (!(ids = getImportOperationIdsAfter(jobId, lastId, OPERATIONS_CHUNK_SIZE)).isEmpty()) {
+            importOperations.addAll(getImportOperationsWithAttributesLoaded(ids));
+            lastId = ids.get(ids.size() - 1);
         }
         return importOperations;
     }
@@ -753,6 +760,38 @@ public class ImportPersistenceManagerBean {
         }
     }
 
+    private List<Long> getImportOperationIdsAfter(final long jobId, final Long lastId, final int limit) {
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery(Long.class);
+        final Root<ImportOperation> importOperation = criteriaQuery.from(ImportOperation.class);
+        final Predicate jobPredicate = criteriaBuilder.equal(importOperation.get(JOB).get(ID), jobId);
+        criteriaQuery.select(importOperation.<Long>get(ID)).orderBy(criteriaBuilder.asc(importOperation.get(ID))).where(
+                lastId != null
+                        ? criteriaBuilder.and(jobPredicate, criteriaBuilder.greaterThan(importOperation.<Long>get(ID), lastId))
+                        : jobPredicate);
+        return entityManager.createQuery(criteriaQuery).setMaxResults(limit).getResultList();
+    }
+
+    /*
+     * The simple and the complex attributes are fetched by two queries, as fetching both collections in one query would return the
+     * product of the two.
+     */
+    private List<ImportOperation> getImportOperationsWithAttributesLoaded(final List<Long> importOperationIds) {
+        final List<ImportOperation> importOperations = getImportOperationsWithAttribute(importOperationIds, SIMPLE_ATTRIBUTES);
+        getImportOperationsWithAttribute(importOperationIds, COMPLEX_ATTRIBUTES);
+        return importOperations;
+    }
+
+    private List<ImportOperation> getImportOperationsWithAttribute(final List<Long> importOperationIds, final String attributes) {
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<ImportOperation> criteriaQuery = criteriaBuilder.createQuery(ImportOperation.class);
+        final Root<ImportOperation> importOperation = criteriaQuery.from(ImportOperation.class);
+        importOperation.fetch(attributes, JoinType.LEFT);
+        criteriaQuery.select(importOperation).distinct(true).orderBy(criteriaBuilder.asc(importOperation.get(ID))).where(
+                importOperation.get(ID).in(importOperationIds));
+        return entityManager.createQuery(criteriaQuery).getResultList();
+    }
+
     private void ensureAttributesFetched(final ImportOperation importOperation) {
         Hibernate.initialize(importOperation.getSimpleAttributes());
         Hibernate.initialize(importOperation.getComplexAttributes());
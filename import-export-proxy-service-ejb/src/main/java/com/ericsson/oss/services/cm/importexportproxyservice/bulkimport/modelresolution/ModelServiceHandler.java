@@ -43,9 +43,15 @@ public class ModelServiceHandler {
     private static final String METHOD_NAME = "Method name: {}";
     private static final FormatLogger LOGGER = new FormatLogger(LoggerFactory.getLogger(ModelServiceHandler.class));
 
+    private static final String PRIMARY_TYPE = "primaryType";
+    private static final String HIERARCHICAL_PRIMARY_TYPE = "hierarchicalPrimaryType";
+
     @Inject
     ModelService modelService;
 
+    @Inject
+    ModelSpecificationCache modelSpecificationCache;
+
     /**
      * Gets Model info using namespace and version of specified Managed Object for a given Managed Object type.
      *
@@ -69,7 +75,9 @@ public class ModelServiceHandler {
      */
     public PrimaryTypeSpecification getPrimaryTypeSpecification(final ModelInfo modelInfo) {
         ModelServiceHandler.LOGGER.debug(METHOD_NAME, "getPrimaryTypeSpecification");
-        return modelService.getTypedAccess().getEModelSpecification(modelInfo, PrimaryTypeSpecification.class);
+        return modelSpecificationCache.get(
+                () -> modelService.getTypedAccess().getEModelSpecification(modelInfo, PrimaryTypeSpecification.class),
+                PRIMARY_TYPE, modelInfo);
     }
 
     /**
@@ -84,7 +92,9 @@ public class ModelServiceHandler {
     public PrimaryTypeSpecification getPrimaryTypeSpecification(final ModelInfo modelInfo, final String neType, final String ossModelIdentity) {
         ModelServiceHandler.LOGGER.debug(METHOD_NAME, "getPrimaryTypeSpecification");
         final Target target = new Target(TargetTypeInformation.CATEGORY_NODE, neType, null, ossModelIdentity);
-        return modelService.getTypedAccess().getEModelSpecification(modelInfo, PrimaryTypeSpecification.class, target);
+        return modelSpecificationCache.get(
+                () -> modelService.getTypedAccess().getEModelSpecification(modelInfo, PrimaryTypeSpecification.class, target),
+                PRIMARY_TYPE, modelInfo, neType, ossModelIdentity);
     }
 
     /**
@@ -94,7 +104,9 @@ public class ModelServiceHandler {
      * @return {@link HierarchicalPrimaryTypeSpecification} object containing the meta-data for a modeled hierarchical primary type
      */
     public HierarchicalPrimaryTypeSpecification getHierarchicalPrimaryTypeSpecification(final ModelInfo modelInfo) {
-        return modelService.getTypedAccess().getEModelSpecification(modelInfo, HierarchicalPrimaryTypeSpecification.class);
+        return modelSpecificationCache.get(
+                () -> modelService.getTypedAccess().getEModelSpecification(modelInfo, HierarchicalPrimaryTypeSpecification.class),
+                HIERARCHICAL_PRIMARY_TYPE, modelInfo);
     }
 
     /**
@@ -108,7 +120,9 @@ public class ModelServiceHandler {
     public HierarchicalPrimaryTypeSpecification getHierarchicalPrimaryTypeSpecification(final ModelInfo modelInfo,
             final String neType, final String ossModelIdentity) {
         final Target target = new Target(TargetTypeInformation.CATEGORY_NODE, neType, null, ossModelIdentity);
-        return modelService.getTypedAccess().getEModelSpecification(modelInfo, HierarchicalPrimaryTypeSpecification.class, target);
+        return modelSpecificationCache.get(
+                () -> modelService.getTypedAccess().getEModelSpecification(modelInfo, HierarchicalPrimaryTypeSpecification.class, target),
+                HIERARCHICAL_PRIMARY_TYPE, modelInfo, neType, ossModelIdentity);
     }
 
     /**
@@ -119,9 +133,11 @@ public class ModelServiceHandler {
      */
     public ComplexDataTypeSpecification getComplexTypeSpecification(final ModelInfo modelInfo) {
         ModelServiceHandler.LOGGER.debug(METHOD_NAME, "getComplexTypeSpecification");
-        return modelService.getTypedAccess().getEModelSpecification(
-                new ModelInfo(SchemaConstants.OSS_CDT, modelInfo.getNamespace(), modelInfo.getName(), modelInfo.getVersion().toString()),
-                ComplexDataTypeSpecification.class);
+        final ModelInfo complexTypeModelInfo =
+                new ModelInfo(SchemaConstants.OSS_CDT, modelInfo.getNamespace(), modelInfo.getName(), modelInfo.getVersion().toString());
+        return modelSpecificationCache.get(
+                () -> modelService.getTypedAccess().getEModelSpecification(complexTypeModelInfo, ComplexDataTypeSpecification.class),
+                "complexType", complexTypeModelInfo);
     }
 
     /**
@@ -132,10 +148,17 @@ public class ModelServiceHandler {
      */
     public EnumDataTypeSpecification getEnumDataTypeSpecification(final ModelInfo modelInfo) {
         ModelServiceHandler.LOGGER.debug(METHOD_NAME, "getEnumDataTypeSpecification");
-        return modelService.getTypedAccess().getEModelSpecification(modelInfo, EnumDataTypeSpecification.class);
+        return modelSpecificationCache.get(
+                () -> modelService.getTypedAccess().getEModelSpecification(modelInfo, EnumDataTypeSpecification.class),
+                "enumType", modelInfo);
     }
 
     public Collection<MimMappedTo> getMimsMappedTo(final String ossModelIdentity, final String neType) {
+        return modelSpecificationCache.get(() -> getMimsMappedToFromModelService(ossModelIdentity, neType),
+                "mimsMappedTo", neType, ossModelIdentity);
+    }
+
+    private Collection<MimMappedTo> getMimsMappedToFromModelService(final String ossModelIdentity, final String neType) {
         final TargetTypeInformation targetTypeInformation = modelService.getTypedAccess().getModelInformation(TargetTypeInformation.class);
         final TargetTypeVersionInformation targetTypeVersionInformation = targetTypeInformation
                 .getTargetTypeVersionInformation(TargetTypeInformation.CATEGORY_NODE, neType);
@@ -147,6 +170,10 @@ public class ModelServiceHandler {
         ModelServiceHandler.LOGGER.trace("Argument values: moType = {}, namespace = {}, namespace version = {}", moType, namespace,
                 namespaceVersion);
         final String typedModelUrn = getTypedModelUrn(moType, namespace, namespaceVersion);
+        return modelSpecificationCache.getIfFound(() -> getLatestConcreteModelFromUrn(typedModelUrn), "latestModel", typedModelUrn);
+    }
+
+    private ModelInfo getLatestConcreteModelFromUrn(final String typedModelUrn) {
         final ModelMetaInformation modelMetaInformation = modelService.getModelMetaInformation();
         final Collection<ModelInfo> latestModels = modelMetaInformation.getLatestModelsFromUrn(typedModelUrn);
         final Iterator<ModelInfo> iterator = latestModels.iterator();
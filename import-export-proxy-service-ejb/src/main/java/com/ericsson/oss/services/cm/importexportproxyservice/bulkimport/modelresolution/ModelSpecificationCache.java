@@ -0,0 +1,111 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.modelresolution;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import com.codahale.metrics.Counter;
+
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.metrics.annotation.Metric;
+import com.ericsson.oss.services.cm.importexportproxyservice.util.ModelCacheRefresher;
+import com.ericsson.oss.services.cm.importexportproxyservice.util.RefreshingModelValue;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Size bounded cache of the model specifications read from the {@code ModelService}, shared by the import and the export code paths,
+ * so that the same model is resolved once instead of once per operation or attribute.
+ * <p>
+ * The entries are keyed on the kind of lookup, the model info or URN and the target (neType, ossModelIdentity) if any. Each entry is
+ * a {@link RefreshingModelValue}, so a lookup is done again in the background a while after it is done, so that the models deployed
+ * later are seen. The entries which are not read for a while are dropped.
+ */
+@ApplicationScoped
+public class ModelSpecificationCache {
+
+    static final int MAX_CACHED_SPECIFICATIONS = 5000;
+    static final long EXPIRY_MINUTES = 10;
+
+    private final Cache<List<Object>, RefreshingModelValue<Optional<Object>>> specifications = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_SPECIFICATIONS)
+            .expireAfterAccess(EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    @Inject
+    ModelCacheRefresher modelCacheRefresher;
+
+    @Inject
+    @Metric(group = "modelSpecificationCache", name = "hits")
+    Counter hits;
+
+    @Inject
+    @Metric(group = "modelSpecificationCache", name = "misses")
+    Counter misses;
+
+    /**
+     * Gets a cached model lookup result, doing the lookup if it is not cached. Failed lookups are not cached.
+     *
+     * @param loader
+     *            the model lookup
+     * @param keyParts
+     *            the kind of lookup followed by its arguments
+     * @return the result of the lookup, which may be null
+     */
+    public <T> T get(final Supplier<T> loader, final Object... keyParts) {
+        return lookUp(loader, true, keyParts);
+    }
+
+    /**
+     * Gets a cached model lookup result, doing the lookup if it is not cached. Failed lookups and lookups which find nothing are not
+     * cached, so a model which is not found is looked up again by the next call.
+     *
+     * @param loader
+     *            the model lookup
+     * @param keyParts
+     *            the kind of lookup followed by its arguments
+     * @return the result of the lookup, or null if nothing was found
+     */
+    public <T> T getIfFound(final Supplier<T> loader, final Object... keyParts) {
+        return lookUp(loader, false, keyParts);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T lookUp(final Supplier<T> loader, final boolean cacheNotFound, final Object... keyParts) {
+        final List<Object> key = Arrays.asList(keyParts);
+        RefreshingModelValue<Optional<Object>> specification = specifications.getIfPresent(key);
+        if (specification != null) {
+            hits.inc();
+        } else {
+            misses.inc();
+            final RefreshingModelValue<Optional<Object>> newSpecification = new RefreshingModelValue<>(
+                    () -> Optional.ofNullable((Object) loader.get()));
+            specification = specifications.asMap().putIfAbsent(key, newSpecification);
+            if (specification == null) {
+                specification = newSpecification;
+            }
+        }
+        final Optional<Object> result = specification.get(modelCacheRefresher);
+        if (!result.isPresent() && !cacheNotFound) {
+            specifications.asMap().remove(key, specification);
+        }
+        return (T) result.orElse(null);
+    }
+}
@@ -12,11 +12,14 @@
 
 package com.ericsson.oss.services.cm.importexportproxyservice.loadbalancer.persistence;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.FileReader;
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Enumeration;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -24,15 +27,13 @@ import javax.ejb.Stateless;
 import javax.ejb.TransactionAttribute;
 import javax.ejb.TransactionAttributeType;
 import javax.inject.Inject;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.apache.commons.io.FilenameUtils;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 import com.ericsson.oss.itpf.sdk.resources.Resource;
 import com.ericsson.oss.services.cm.bulkimport.file.exception.ImportFileNotFoundException;
@@ -49,9 +50,13 @@ public class FileHandlerBean {
     private static final String ZIP = "zip";
     private static final String TXT = "txt";
     private static final String CSV = "csv";
+    private static final String XML = "xml";
     private static final String MODIFIER = "modifier";
     private static final String ELEMENT = "xn:VsDataContainer";
-    private static final String FDN = "FDN";
+    private static final byte[] FDN = {'F', 'D', 'N'};
+    private static final long MAPPED_REGION_SIZE = 16L * 1024 * 1024;
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
 
     @Inject
     BulkCmImportConfiguration bulkCmImportConfiguration;
@@ -62,12 +67,33 @@ public class FileHandlerBean {
     public boolean isLargeJob(final String filePath) {
         final Resource resource = getFileResource(filePath);
         final String fileExtension = FilenameUtils.getExtension(resource.getName());
-        if (getOperationCountFromFile(filePath, fileExtension) > bulkCmImportConfiguration.getCountOfOperationsInLargeJob()) {
+        final long countOfOperationsInLargeJob = bulkCmImportConfiguration.getCountOfOperationsInLargeJob();
+        if (getOperationCountFromFile(filePath, fileExtension, countOfOperationsInLargeJob) > countOfOperationsInLargeJob) {
             return true;
         }
         return false;
     }
 
+    /**
+     * Counts the operations of an import file, reading the file as a stream in constant memory.
+     *
+     * @param filePath
+     *            path of the import file
+     * @return the number of operations of the import file
+     */
+    public long getOperationCount(final String filePath) {
+        final Resource resource = getFileResource(filePath);
+        return getOperationCountFromFile(filePath, FilenameUtils.getExtension(resource.getName()), Long.MAX_VALUE);
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        final XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return xmlInputFactory;
+    }
+
     private Resource getFileResource(final String filePath) {
         // N.B. Due to limitations of the SFWK resource adapter, only ONE resource should be created in each tx.
         // See SFWK SDK for more details.
@@ -78,54 +104,56 @@ public class FileHandlerBean {
         return resource;
     }
 
-    private long getOperationCountFromFile(final String filePath, final String fileExtension)  {
+    /*
+     * The counting stops as soon as the count exceeds maxCount, as only whether the file holds more operations than that is needed.
+     */
+    private long getOperationCountFromFile(final String filePath, final String fileExtension, final long maxCount)  {
         if (ZIP.equals(fileExtension)) {
-            return getOperationCountFromZipFile(filePath);
+            return getOperationCountFromZipFile(filePath, maxCount);
         } else if (TXT.equals(fileExtension) || CSV.equals(fileExtension)) {
-            return getOperationCountFromTxtFile(filePath);
+            return getOperationCountFromTxtFile(filePath, maxCount);
         } else {
-            return getOperationCountFromXmlFile(filePath);
+            return getOperationCountFromXmlFile(filePath, maxCount);
         }
     }
 
-    private long getOperationCountFromTxtFile(final String filePath) {
-        long wordcount = 0;
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                final String[] words = line.split(" ");
-                for (final String word : words) {
-                    if (FDN.equals(word)) {
-                        wordcount = wordcount + 1;
-                    }
+    /*
+     * Counts the "FDN" words, separated by spaces or line breaks, scanning the bytes of the file mapped one region at a time.
+     */
+    private long getOperationCountFromTxtFile(final String filePath, final long maxCount) {
+        final FdnWordCounter fdnWordCounter = new FdnWordCounter();
+        try (FileChannel fileChannel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            final long fileSize = fileChannel.size();
+            for (long position = 0; position < fileSize && fdnWordCounter.getCount() <= maxCount; position += MAPPED_REGION_SIZE) {
+                final MappedByteBuffer region =
+                        fileChannel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAPPED_REGION_SIZE, fileSize - position));
+                while (region.hasRemaining()) {
+                    fdnWordCounter.accept(region.get());
                 }
             }
-            LOGGER.info("Operation Count in EDFF file: {}", wordcount);
+            LOGGER.info("Operation Count in EDFF file: {}", fdnWordCounter.getCount());
         } catch (final Exception exception) {
             LOGGER.error("Exception occured while reading the file", exception);
         }
-        return wordcount;
+        return fdnWordCounter.getCount();
     }
 
-    private long getOperationCountFromXmlFile(final String filePath) {
-        long wordCount = 0;
-        try {
-            final File xmlFile = new File(filePath);
-            final DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-            final DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-            final Document doc = dBuilder.parse(xmlFile);
-            doc.getDocumentElement().normalize();
-            final NodeList textNodes = doc.getElementsByTagName(ELEMENT);
-            for (int i = 0; i < textNodes.getLength(); i++) {
-                final Node textNode = textNodes.item(i);
-                if (textNode.getNodeType() == Node.ELEMENT_NODE) {
-                    final Element dataElement = (Element) textNode;
-                    final String attributeValue = dataElement.getAttribute(MODIFIER);
-                    if (!attributeValue.isEmpty()) {
-                        wordCount = wordCount + 1;
-                    }
-                }
+    private long getOperationCountFromTxtStream(final InputStream inputStream, final long maxCount) throws IOException {
+        final FdnWordCounter fdnWordCounter = new FdnWordCounter();
+        final byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+        int bytesRead;
+        while (fdnWordCounter.getCount() <= maxCount && (bytesRead = inputStream.read(buffer)) != -1) {
+            for (int i = 0; i < bytesRead; i++) {
+                fdnWordCounter.accept(buffer[i]);
             }
+        }
+        return fdnWordCounter.getCount();
+    }
+
+    private long getOperationCountFromXmlFile(final String filePath, final long maxCount) {
+        long wordCount = 0;
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(filePath), STREAM_BUFFER_SIZE)) {
+            wordCount = getOperationCountFromXmlStream(inputStream, maxCount);
             LOGGER.info("Operation Count in XML file: {}", wordCount);
         } catch (final Exception exception) {
             LOGGER.error("Exception occured while reading the file", exception);
@@ -133,34 +161,90 @@ public class FileHandlerBean {
         return wordCount;
     }
 
-    private long getOperationCountFromZipFile(final String filePath) {
+    /*
+     * The names are matched as written, namespaces not being processed, the same as the DOM parser used before, so that a file which does
+     * not declare the xn prefix is still counted.
+     */
+    private long getOperationCountFromXmlStream(final InputStream inputStream, final long maxCount) throws XMLStreamException {
+        long wordCount = 0;
+        final XMLStreamReader xmlStreamReader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+        try {
+            while (xmlStreamReader.hasNext() && wordCount <= maxCount) {
+                if (xmlStreamReader.next() == XMLStreamConstants.START_ELEMENT
+                        && ELEMENT.equals(getQualifiedName(xmlStreamReader.getPrefix(), xmlStreamReader.getLocalName()))
+                        && hasModifier(xmlStreamReader)) {
+                    wordCount = wordCount + 1;
+                }
+            }
+        } finally {
+            xmlStreamReader.close();
+        }
+        return wordCount;
+    }
+
+    private static boolean hasModifier(final XMLStreamReader xmlStreamReader) {
+        for (int i = 0; i < xmlStreamReader.getAttributeCount(); i++) {
+            if (MODIFIER.equals(getQualifiedName(xmlStreamReader.getAttributePrefix(i), xmlStreamReader.getAttributeLocalName(i)))) {
+                return !xmlStreamReader.getAttributeValue(i).isEmpty();
+            }
+        }
+        return false;
+    }
+
+    private static String getQualifiedName(final String prefix, final String localName) {
+        return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+    }
+
+    /*
+     * The XML and EDFF entries of the archive are read in place from the compressed stream, without being extracted.
+     */
+    private long getOperationCountFromZipFile(final String filePath, final long maxCount) {
+        long wordCount = 0;
         try (ZipFile zipFile = new ZipFile(filePath)) {
             final Enumeration<? extends ZipEntry> entries = zipFile.entries();
-            if (entries.hasMoreElements()) {
-                final ZipEntry firstEntry = entries.nextElement();
-                final String targetDirectory = "/ericsson/config_mgt/import_files";
-                final String targetFilePath = targetDirectory + File.separator + firstEntry.getName();
-                final File targetDir = new File(targetDirectory);
-                if (!targetDir.exists()) {
-                    targetDir.mkdirs();
+            while (entries.hasMoreElements() && wordCount <= maxCount) {
+                final ZipEntry entry = entries.nextElement();
+                if (entry.isDirectory()) {
+                    continue;
                 }
-                try (InputStream inputStream = zipFile.getInputStream(firstEntry);
-                FileOutputStream outputStream = new FileOutputStream(targetFilePath)) {
-                    final byte[] buffer = new byte[1024];
-                    int bytesRead;
-                    while ((bytesRead = inputStream.read(buffer)) != -1) {
-                        outputStream.write(buffer, 0, bytesRead);
-                    }
-                    if (firstEntry.getName().endsWith(".xml")) {
-                        return getOperationCountFromXmlFile(targetFilePath);
-                    } else if (firstEntry.getName().endsWith(".txt") || firstEntry.getName().endsWith(".csv")) {
-                        return getOperationCountFromTxtFile(targetFilePath);
+                final String entryExtension = FilenameUtils.getExtension(entry.getName());
+                try (InputStream inputStream = new BufferedInputStream(zipFile.getInputStream(entry), STREAM_BUFFER_SIZE)) {
+                    if (XML.equals(entryExtension)) {
+                        wordCount += getOperationCountFromXmlStream(inputStream, maxCount - wordCount);
+                    } else if (TXT.equals(entryExtension) || CSV.equals(entryExtension)) {
+                        wordCount += getOperationCountFromTxtStream(inputStream, maxCount - wordCount);
                     }
                 }
             }
+            LOGGER.info("Operation Count in ZIP file: {}", wordCount);
         } catch (final Exception exception) {
             LOGGER.error("Exception occured while reading the file", exception);
         }
-        return 0;
+        return wordCount;
+    }
+
+    /**
+     * Counts the "FDN" words separated by spaces or line breaks, one byte at a time.
+     */
+    private static final class FdnWordCounter {
+        private long count;
+        private int matchedLength;
+
+        private void accept(final byte character) {
+            if (character == ' ' || character == '\n' || character == '\r') {
+                if (matchedLength == FDN.length) {
+                    count++;
+                }
+                matchedLength = 0;
+            } else if (matchedLength >= 0 && matchedLength < FDN.length && character == FDN[matchedLength]) {
+                matchedLength++;
+            } else {
+                matchedLength = -1;
+            }
+        }
+
+        private long getCount() {
+            return matchedLength == FDN.length ? count + 1 : count;
+        }
     }
 }
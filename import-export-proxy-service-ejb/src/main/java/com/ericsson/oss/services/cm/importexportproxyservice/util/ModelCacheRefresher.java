@@ -0,0 +1,38 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+
+package com.ericsson.oss.services.cm.importexportproxyservice.util;
+
+import javax.ejb.Asynchronous;
+import javax.ejb.Stateless;
+import javax.ejb.TransactionAttribute;
+import javax.ejb.TransactionAttributeType;
+
+/**
+ * Runs the refresh of the values read from the model service in the background, so that the requests are served from the current
+ * value while the new one is built.
+ */
+@Stateless
+@TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
+public class ModelCacheRefresher {
+
+    /**
+     * Runs a refresh in the background.
+     *
+     * @param refresh
+     *            the refresh to run
+     */
+    @Asynchronous
+    public void refresh(final Runnable refresh) {
+        refresh.run();
+    }
+}
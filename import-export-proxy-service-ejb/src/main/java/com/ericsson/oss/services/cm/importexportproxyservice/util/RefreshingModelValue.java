@@ -0,0 +1,108 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+
+package com.ericsson.oss.services.cm.importexportproxyservice.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Value read from the model service, read again a while after it is read so that the models deployed later are seen.
+ * <p>
+ * The value is read on the first request. Once it is older than the refresh interval, the next request starts a single read of the
+ * value in the background and gets the current value, which is replaced at once when the read completes. A failed read keeps the
+ * current value, and is tried again on the next request.
+ *
+ * @param <V>
+ *            type of the value
+ */
+public final class RefreshingModelValue<V> {
+
+    public static final long REFRESH_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RefreshingModelValue.class);
+
+    private final Supplier<V> loader;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile Loaded<V> loaded;
+
+    /**
+     * Creates a value which is read with a given loader.
+     *
+     * @param loader
+     *            reads the value from the model service
+     */
+    public RefreshingModelValue(final Supplier<V> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Gets the value, reading it if it was not read yet, and starting a refresh in the background if it is older than the refresh
+     * interval.
+     *
+     * @param refresher
+     *            runs the refresh in the background
+     * @return the value
+     */
+    public V get(final ModelCacheRefresher refresher) {
+        Loaded<V> current = loaded;
+        if (current == null) {
+            synchronized (this) {
+                current = loaded;
+                if (current == null) {
+                    current = load();
+                }
+            }
+        } else if (current.isStale() && refreshing.compareAndSet(false, true)) {
+            try {
+                refresher.refresh(this::refresh);
+            } catch (final RuntimeException e) {
+                refreshing.set(false);
+                LOGGER.warn("Failed to start the refresh of a model value, the current value is kept: [{}]", e.getMessage());
+            }
+        }
+        return current.value;
+    }
+
+    private void refresh() {
+        try {
+            load();
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Failed to refresh a model value, the current value is kept: [{}]", e.getMessage());
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private Loaded<V> load() {
+        final Loaded<V> current = new Loaded<>(loader.get());
+        loaded = current;
+        return current;
+    }
+
+    private static final class Loaded<V> {
+        private final V value;
+        private final long loadTime = System.currentTimeMillis();
+
+        private Loaded(final V value) {
+            this.value = value;
+        }
+
+        private boolean isStale() {
+            return System.currentTimeMillis() - loadTime > REFRESH_INTERVAL_MILLIS;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.userfilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static com.ericsson.oss.services.cm.export.api.ExportServiceConstants.*;
+import static com.ericsson.oss.services.cm.export.transformer.api.IncludeExcludeMoFilteringType.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.ericsson.oss.services.cm.export.transformer.api.IncludeExcludeMoFilteringType;
+import com.ericsson.oss.services.cm.export.transformer.api.MoSpecification.AutoAttributeList;
+
+/**
+ * Checks the MO specifications built from the clauses of a user defined filter, which are the same as the ones built by reading the
+ * clauses element by element before.
+ */
+public class MoSpecificationContainerTest {
+
+    @Test
+    public void shouldBuildTheSpecificationOfAnAttributeListWithoutTheSpaces() {
+        final MoSpecificationContainer container = new MoSpecificationContainer(" NetworkElement.(  neType , platformType ) ");
+
+        assertMoSpecification(container, "NetworkElement", NONE, AutoAttributeList.ALL_ATTRIBUTES, "neType", "platformType");
+    }
+
+    @Test
+    public void shouldBuildTheSpecificationOfASingleAttribute() {
+        final MoSpecificationContainer container = new MoSpecificationContainer("NetworkElement.neType");
+
+        assertMoSpecification(container, "NetworkElement", NONE, AutoAttributeList.ALL_ATTRIBUTES, "neType");
+    }
+
+    @Test
+    public void shouldBuildTheSpecificationsOfThePersistentAttributesSpecifiers() {
+        final MoSpecificationContainer container = new MoSpecificationContainer(
+                "NetworkElement.*;MeContext.<m>;ManagedElement.<w>;EUtranCellFDD.(cellId, *);EUtranCellTDD.(*,cellId);"
+                        + "ENodeBFunction.(eNBId, <w>)");
+
+        assertMoSpecification(container, "NetworkElement", NONE, AutoAttributeList.PERSISTED_ATTRIBUTES);
+        assertMoSpecification(container, "MeContext", INCLUDE_PERSISTENT_ATTRIBUTES, AutoAttributeList.MANDATORY_PERSISTED_ATTRIBUTES);
+        assertMoSpecification(container, "ManagedElement", INCLUDE_PERSISTENT_ATTRIBUTES, AutoAttributeList.WRITABLE_PERSISTED_ATTRIBUTES);
+        assertMoSpecification(container, "EUtranCellFDD", INCLUDE_PERSISTENT_ATTRIBUTES, AutoAttributeList.PERSISTED_ATTRIBUTES, "cellId");
+        assertMoSpecification(container, "EUtranCellTDD", INCLUDE_PERSISTENT_ATTRIBUTES, AutoAttributeList.ALL_ATTRIBUTES, "cellId");
+        assertMoSpecification(container, "ENodeBFunction", INCLUDE_PERSISTENT_ATTRIBUTES, AutoAttributeList.WRITABLE_PERSISTED_ATTRIBUTES,
+                "eNBId");
+    }
+
+    @Test
+    public void shouldBuildTheSpecificationsOfTheExcludeAndSubtreeOperators() {
+        final MoSpecificationContainer includeContainer = new MoSpecificationContainer("NetworkElement+.*;MeContext+.<m>");
+        final MoSpecificationContainer excludeContainer = new MoSpecificationContainer("!NetworkElement;!MeContext+");
+
+        assertMoSpecification(includeContainer, "NetworkElement", INCLUDE_DESCENDANT, AutoAttributeList.PERSISTED_ATTRIBUTES);
+        assertMoSpecification(includeContainer, "MeContext", INCLUDE_DESCENDANT, AutoAttributeList.MANDATORY_PERSISTED_ATTRIBUTES);
+        assertMoSpecification(excludeContainer, "NetworkElement", EXCLUDE, AutoAttributeList.ALL_ATTRIBUTES);
+        assertMoSpecification(excludeContainer, "MeContext", EXCLUDE_DESCENDANT, AutoAttributeList.ALL_ATTRIBUTES);
+    }
+
+    @Test
+    public void shouldKeepTheLastSubtreeAndTheLastNormalClauseOfAnMoClass() {
+        final MoSpecificationContainer container = new MoSpecificationContainer(
+                "NetworkElement.neType;NetworkElement+.<w>;NetworkElement.platformType;NetworkElement+.*");
+
+        final List<Map<String, Object>> moSpecifications = container.getMoSpecificationsForMoType("NetworkElement");
+
+        assertThat(moSpecifications).hasSize(2);
+        assertThat(moSpecifications.get(0).get(INCLUDE_EXCLUDE_MO_FILTERING_TYPE)).isEqualTo(INCLUDE_DESCENDANT.name());
+        assertThat(moSpecifications.get(0).get(MEMBER_MO_ATTRIBUTE_SELECTOR)).isEqualTo(AutoAttributeList.PERSISTED_ATTRIBUTES.name());
+        assertThat(attributeNames(moSpecifications.get(1))).containsExactly("platformType");
+    }
+
+    @Test
+    public void shouldKeepOnlyTheExcludeSubtreeClauseOfAnMoClass() {
+        final MoSpecificationContainer container = new MoSpecificationContainer("!NetworkElement;!NetworkElement+");
+
+        final List<Map<String, Object>> moSpecifications = container.getMoSpecificationsForMoType("NetworkElement");
+
+        assertThat(moSpecifications).hasSize(1);
+        assertThat(moSpecifications.get(0).get(INCLUDE_EXCLUDE_MO_FILTERING_TYPE)).isEqualTo(EXCLUDE_DESCENDANT.name());
+    }
+
+    private static void assertMoSpecification(final MoSpecificationContainer container, final String moClass,
+            final IncludeExcludeMoFilteringType filteringType, final AutoAttributeList autoAttributeList, final String... attributeNames) {
+        final List<Map<String, Object>> moSpecifications = container.getMoSpecificationsForMoType(moClass);
+
+        assertThat(moSpecifications).as(moClass).hasSize(1);
+        final Map<String, Object> moSpecification = moSpecifications.get(0);
+        assertThat(moSpecification.get(ATTR_EXPORT_FILTER_MODEL_CLASS_NAME)).as(moClass).isEqualTo(moClass);
+        assertThat(moSpecification.get(INCLUDE_EXCLUDE_MO_FILTERING_TYPE)).as(moClass).isEqualTo(filteringType.name());
+        assertThat(moSpecification.get(MEMBER_MO_ATTRIBUTE_SELECTOR)).as(moClass).isEqualTo(autoAttributeList.name());
+        assertThat(attributeNames(moSpecification)).as(moClass).containsExactly(attributeNames);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> attributeNames(final Map<String, Object> moSpecification) {
+        final List<String> attributeNames = new ArrayList<>();
+        for (final Map<String, Object> attributeSpecification : (List<Map<String, Object>>) moSpecification
+                .get(MEMBER_ATTRIBUTE_SPECIFICATIONS_LIST)) {
+            attributeNames.add((String) attributeSpecification.get(MEMBER_MO_ATTRIBUTE_NAME));
+        }
+        return attributeNames;
+    }
+}
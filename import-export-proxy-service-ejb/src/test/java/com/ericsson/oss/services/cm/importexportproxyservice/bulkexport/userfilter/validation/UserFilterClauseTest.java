@@ -0,0 +1,157 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.userfilter.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import static com.ericsson.oss.services.cm.export.transformer.api.IncludeExcludeMoFilteringType.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.ericsson.oss.services.cm.export.transformer.api.IncludeExcludeMoFilteringType;
+import com.ericsson.oss.services.cm.export.transformer.api.MoSpecification.AutoAttributeList;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.validation.ValidationException;
+
+/**
+ * Checks that {@link UserFilterClause} accepts and classifies the clauses the same way as the patterns the syntax validator matched
+ * the clauses against before.
+ */
+public class UserFilterClauseTest {
+    private static final String GENERIC_STRING_PATTERN = "[a-zA-Z0-9\\-_$]+";
+    private static final String PERSISTENT_ATTRIBUTES_PATTERN = "(\\*{1}|<[mw]>)";
+    private static final String LIST_ELEMENT_PATTERN = "[ ]*(" + PERSISTENT_ATTRIBUTES_PATTERN + "|" + GENERIC_STRING_PATTERN + ")[ ]*";
+    private static final String ATTRIBUTE_LIST_PATTERN = "\\(" + LIST_ELEMENT_PATTERN + "(\\,{1}" + LIST_ELEMENT_PATTERN + ")*\\)";
+    private static final String INCLUDE_PATTERN = GENERIC_STRING_PATTERN + "\\.{1}("
+            + PERSISTENT_ATTRIBUTES_PATTERN + "|" + GENERIC_STRING_PATTERN + "|" + ATTRIBUTE_LIST_PATTERN + ")";
+    private static final String EXCLUDE_PATTERN = "\\!" + GENERIC_STRING_PATTERN;
+    private static final String EXCLUDE_SUBTREE_PATTERN = "\\!" + GENERIC_STRING_PATTERN + "\\+";
+    private static final String INCLUDE_SUBTREE_PATTERN = GENERIC_STRING_PATTERN + "\\+\\.{1}(" + PERSISTENT_ATTRIBUTES_PATTERN + ")";
+    private static final String LEGACY_USER_DEFINED_FILTER_PATTERN = EXCLUDE_SUBTREE_PATTERN + "|" + INCLUDE_SUBTREE_PATTERN
+            + "|" + EXCLUDE_PATTERN + "|" + INCLUDE_PATTERN;
+    private static final String LEGACY_INVALID_ROOT_MO_SUBTREE_PATTERN = "SubNetwork\\+\\.{1}" + PERSISTENT_ATTRIBUTES_PATTERN
+            + "|\\!SubNetwork\\+";
+    private static final String LEGACY_MULTIPLE_SPECIFIERS_PATTERN = "((.*)\\((.*)(<[mw]>)(.*)(<[mw]>)(.*)\\)(.*)"
+            + "|(.*)\\((.*)(\\*)(.*)(<[mw]>)(.*)\\)(.*)|(.*)\\((.*)(<[mw]>)(.*)(\\*)(.*)\\)(.*))";
+
+    private static final List<String> CLAUSES = Arrays.asList(
+            "NetworkElement.*", "NetworkElement.<m>", "NetworkElement.<w>", "NetworkElement.neType",
+            "Ne-1_$.attr-2_$", "NetworkElement.(neType)", "NetworkElement.(neType,platformType)",
+            "NetworkElement.( neType , platformType )", "NetworkElement.(  neType,platformType  )", "NetworkElement.(*)",
+            "NetworkElement.(neType,*)", "NetworkElement.(neType, *)", "NetworkElement.(neType,* )", "NetworkElement.(*,neType)",
+            "NetworkElement.(<m>)", "NetworkElement.(neType,<m>)", "NetworkElement.(<w>, neType)", "NetworkElement.(<m>,<w>)",
+            "NetworkElement.(<m>,*)", "NetworkElement.(*, <w>)", "NetworkElement.(*,*)", "NetworkElement.(<m>,<m>)",
+            "NetworkElement+.*", "NetworkElement+.<m>", "NetworkElement+.<w>", "NetworkElement+.neType", "NetworkElement+.(neType)",
+            "!NetworkElement", "!NetworkElement+", "SubNetwork+.*", "SubNetwork+.<w>", "!SubNetwork+", "!SubNetwork",
+            "SubNetwork.*", "", "NetworkElement", "NetworkElement.", "NetworkElement..*", "NetworkElement.neType.*",
+            "Network Element.*", "NetworkElement. neType", "NetworkElement.neType ", "NetworkElement.(neType", "NetworkElement.neType)",
+            "NetworkElement.()", "NetworkElement.(,neType)", "NetworkElement.(neType,)", "NetworkElement.(neType platformType)",
+            "NetworkElement.(\tneType)", "NetworkElement.<x>", "NetworkElement.<m", "NetworkElement.<>", "NetworkElement.**",
+            "NetworkElement.(**)", "NetworkElement.((neType))", "!NetworkElement.*", "!NetworkElement+.*", "!!NetworkElement",
+            "!", "!+", "+.*", "NetworkElement++.*", "Network+Element.*", "NetworkElement.+", ".*", "NetworkElement.*;");
+
+    @Test
+    public void shouldAcceptTheSameClausesAsTheLegacyPatterns() {
+        for (final String clause : CLAUSES) {
+            assertThat(UserFilterClause.parse(clause) != null).as(clause).isEqualTo(clause.matches(LEGACY_USER_DEFINED_FILTER_PATTERN));
+        }
+    }
+
+    @Test
+    public void shouldClassifyTheAcceptedClausesAsTheLegacyPatterns() {
+        for (final String clause : CLAUSES) {
+            final UserFilterClause userFilterClause = UserFilterClause.parse(clause);
+            if (userFilterClause != null) {
+                assertThat(userFilterClause.isExclude()).as(clause)
+                        .isEqualTo(clause.matches(EXCLUDE_PATTERN) || clause.matches(EXCLUDE_SUBTREE_PATTERN));
+                assertThat(userFilterClause.isSubtree() && "SubNetwork".equals(userFilterClause.getMoClass())).as(clause)
+                        .isEqualTo(clause.matches(LEGACY_INVALID_ROOT_MO_SUBTREE_PATTERN));
+                assertThat(userFilterClause.hasMultiplePersistentSpecifiersInAttributeList()).as(clause)
+                        .isEqualTo(clause.matches(LEGACY_MULTIPLE_SPECIFIERS_PATTERN));
+            }
+        }
+    }
+
+    @Test
+    public void shouldStripTheSpacesAroundTheElementsOfAnAttributeList() {
+        final UserFilterClause userFilterClause = UserFilterClause.parse("NetworkElement.(  neType ,platformType  , <m> )");
+
+        assertThat(userFilterClause.getMoClass()).isEqualTo("NetworkElement");
+        assertThat(userFilterClause.getAttributeNames()).containsExactly("neType", "platformType");
+        assertThat(userFilterClause.getIncludeExcludeMoFilteringType()).isEqualTo(INCLUDE_PERSISTENT_ATTRIBUTES);
+        assertThat(userFilterClause.getAutoAttributeList()).isEqualTo(AutoAttributeList.MANDATORY_PERSISTED_ATTRIBUTES);
+    }
+
+    @Test
+    public void shouldParseTheExcludeAndSubtreeOperators() {
+        assertClause("!NetworkElement", "NetworkElement", EXCLUDE, AutoAttributeList.ALL_ATTRIBUTES);
+        assertClause("!NetworkElement+", "NetworkElement", EXCLUDE_DESCENDANT, AutoAttributeList.ALL_ATTRIBUTES);
+        assertClause("NetworkElement+.*", "NetworkElement", INCLUDE_DESCENDANT, AutoAttributeList.PERSISTED_ATTRIBUTES);
+        assertClause("NetworkElement+.<w>", "NetworkElement", INCLUDE_DESCENDANT, AutoAttributeList.WRITABLE_PERSISTED_ATTRIBUTES);
+    }
+
+    @Test
+    public void shouldParseThePersistentAttributesSpecifiers() {
+        assertClause("NetworkElement.*", "NetworkElement", NONE, AutoAttributeList.PERSISTED_ATTRIBUTES);
+        assertClause("NetworkElement.<m>", "NetworkElement", INCLUDE_PERSISTENT_ATTRIBUTES, AutoAttributeList.MANDATORY_PERSISTED_ATTRIBUTES);
+        assertClause("NetworkElement.<w>", "NetworkElement", INCLUDE_PERSISTENT_ATTRIBUTES, AutoAttributeList.WRITABLE_PERSISTED_ATTRIBUTES);
+        assertClause("NetworkElement.(neType,*)", "NetworkElement", INCLUDE_PERSISTENT_ATTRIBUTES, AutoAttributeList.PERSISTED_ATTRIBUTES);
+        assertClause("NetworkElement.(neType,* )", "NetworkElement", INCLUDE_PERSISTENT_ATTRIBUTES, AutoAttributeList.ALL_ATTRIBUTES);
+        assertClause("NetworkElement.(*,neType)", "NetworkElement", INCLUDE_PERSISTENT_ATTRIBUTES, AutoAttributeList.ALL_ATTRIBUTES);
+        assertClause("NetworkElement.neType", "NetworkElement", NONE, AutoAttributeList.ALL_ATTRIBUTES);
+    }
+
+    @Test
+    public void shouldRejectTheSubtreeOfTheRootMoClass() {
+        assertRejected("SubNetwork+.*");
+        assertRejected("!SubNetwork+");
+    }
+
+    @Test
+    public void shouldRejectMultipleSpecifiersInAnAttributeList() {
+        assertRejected("NetworkElement.(neType,<m>,*)");
+        assertRejected("NetworkElement.(<m>, <w>)");
+    }
+
+    @Test
+    public void shouldRejectIncludeAndExcludeClausesInTheSameFilter() {
+        assertRejected("NetworkElement.*;!MeContext");
+    }
+
+    @Test
+    public void shouldAcceptAFilterWithTrimmedClauses() {
+        UserFilterSyntaxValidator.checkFilterCompliantToExpectedPattern(" NetworkElement.( neType , <m> ) ; MeContext+.* ;SubNetwork.*");
+        UserFilterSyntaxValidator.checkFilterCompliantToExpectedPattern("!NetworkElement; !MeContext+ ");
+    }
+
+    private static void assertClause(final String clause, final String moClass, final IncludeExcludeMoFilteringType filteringType,
+            final AutoAttributeList autoAttributeList) {
+        final UserFilterClause userFilterClause = UserFilterClause.parse(clause);
+
+        assertThat(userFilterClause).as(clause).isNotNull();
+        assertThat(userFilterClause.getMoClass()).as(clause).isEqualTo(moClass);
+        assertThat(userFilterClause.getIncludeExcludeMoFilteringType()).as(clause).isEqualTo(filteringType);
+        assertThat(userFilterClause.getAutoAttributeList()).as(clause).isEqualTo(autoAttributeList);
+    }
+
+    private static void assertRejected(final String userFilter) {
+        try {
+            UserFilterSyntaxValidator.checkFilterCompliantToExpectedPattern(userFilter);
+            fail("Expected the user filter to be rejected - " + userFilter);
+        } catch (final ValidationException e) {
+            assertThat(e.getMessage()).isNotEmpty();
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+package com.ericsson.oss.services.cm.importexportproxyservice.loadbalancer.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import com.ericsson.oss.itpf.sdk.resources.Resource;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.BulkCmImportConfiguration;
+
+/**
+ * Checks the operation counts of the import files, which are the same as the ones of the DOM parser and of the line splitting used before.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class FileHandlerBeanTest {
+    private static final int MAPPED_REGION_SIZE = 16 * 1024 * 1024;
+    private static final String XML_HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n";
+    private static final String XML_OPERATIONS = "<xn:SubNetwork id=\"ONRM_ROOT_MO\">\n"
+            + "  <xn:MeContext id=\"ERBS001\">\n"
+            + "    <xn:VsDataContainer id=\"1\" modifier=\"create\">\n"
+            + "      <xn:VsDataContainer id=\"2\" modifier=\"update\"/>\n"
+            + "      <xn:VsDataContainer id=\"3\"/>\n"
+            + "      <xn:VsDataContainer id=\"4\" modifier=\"\"/>\n"
+            + "    </xn:VsDataContainer>\n"
+            + "    <VsDataContainer id=\"5\" modifier=\"delete\"/>\n"
+            + "    <es:VsDataContainer id=\"6\" modifier=\"delete\"/>\n"
+            + "    <xn:VsDataContainer id=\"7\" es:modifier=\"delete\"/>\n"
+            + "    <xn:VsDataContainer id=\"8\" es:modifier=\"delete\" modifier=\"delete\"/>\n"
+            + "  </xn:MeContext>\n"
+            + "</xn:SubNetwork>\n";
+    private static final String TXT_OPERATIONS = "create\r\nFDN : \"SubNetwork=1,MeContext=ERBS001\"\r\n"
+            + "FDN FDN\r\n  FDN  \n\rFDN\rFDNS FDN, xFDN\tFDN FDN\t\n"
+            + "delete FDN \n\n"
+            + "FDN";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private BulkCmImportConfiguration bulkCmImportConfiguration;
+
+    @Mock
+    private FileResourceProvider fileResourceProvider;
+
+    @Mock
+    private Resource resource;
+
+    private final FileHandlerBean fileHandlerBean = new FileHandlerBean();
+
+    @Before
+    public void setUp() {
+        fileHandlerBean.bulkCmImportConfiguration = bulkCmImportConfiguration;
+        fileHandlerBean.fileResourceProvider = fileResourceProvider;
+    }
+
+    @Test
+    public void shouldCountTheVsDataContainersWithAModifierAsTheDomParserDid() throws Exception {
+        final File file = writeFile("import.xml", XML_HEADER + "<bulkCmConfigDataFile xmlns:xn=\"http://www.3gpp.org/ftp/specs/archive/32_series/"
+                + "32.625#genericNrm\" xmlns:es=\"EricssonSpecificAttributes.xsd\">\n" + XML_OPERATIONS + "</bulkCmConfigDataFile>\n");
+
+        assertThat(getOperationCount(file)).isEqualTo(3).isEqualTo(getOperationCountWithDomParser(file));
+    }
+
+    @Test
+    public void shouldCountTheVsDataContainersOfAFileWhichDoesNotDeclareThePrefixes() throws Exception {
+        final File file = writeFile("import.xml", XML_HEADER + "<bulkCmConfigDataFile>\n" + XML_OPERATIONS + "</bulkCmConfigDataFile>\n");
+
+        assertThat(getOperationCount(file)).isEqualTo(3).isEqualTo(getOperationCountWithDomParser(file));
+    }
+
+    @Test
+    public void shouldCountTheFdnWordsAsTheLineSplittingDid() throws Exception {
+        final File txtFile = writeFile("import.txt", TXT_OPERATIONS);
+        final File csvFile = writeFile("import.csv", TXT_OPERATIONS);
+
+        assertThat(getOperationCount(txtFile)).isEqualTo(7).isEqualTo(getOperationCountWithLineSplitting(txtFile));
+        assertThat(getOperationCount(csvFile)).isEqualTo(7);
+    }
+
+    @Test
+    public void shouldCountTheFdnWordsWithTrailingSeparators() throws Exception {
+        final File file = writeFile("import.txt", "FDN \r\n FDN\r\n\r\n   ");
+
+        assertThat(getOperationCount(file)).isEqualTo(2).isEqualTo(getOperationCountWithLineSplitting(file));
+    }
+
+    @Test
+    public void shouldCountTheFdnWordsAcrossTheMappedRegions() throws Exception {
+        final byte[] filler = new byte[MAPPED_REGION_SIZE - 2];
+        Arrays.fill(filler, (byte) 'a');
+        for (int i = 80; i < filler.length; i += 81) {
+            filler[i] = '\n';
+        }
+        filler[filler.length - 1] = ' ';
+        final File file = temporaryFolder.newFile("import.txt");
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            outputStream.write(filler);
+            outputStream.write("FDN FDN\r\n".getBytes(StandardCharsets.US_ASCII));
+            outputStream.write(filler);
+            outputStream.write("FDN".getBytes(StandardCharsets.US_ASCII));
+        }
+
+        assertThat(getOperationCount(file)).isEqualTo(3).isEqualTo(getOperationCountWithLineSplitting(file));
+    }
+
+    @Test
+    public void shouldCountTheOperationsOfASingleEntryArchiveAsBefore() throws Exception {
+        final File xmlFile = writeFile("import.xml", XML_HEADER + "<bulkCmConfigDataFile>\n" + XML_OPERATIONS + "</bulkCmConfigDataFile>\n");
+        final File txtFile = writeFile("import.txt", TXT_OPERATIONS);
+        final File xmlZipFile = writeZipFile("xml.zip", xmlFile);
+        final File txtZipFile = writeZipFile("txt.zip", txtFile);
+
+        assertThat(getOperationCount(xmlZipFile)).isEqualTo(getOperationCountWithDomParser(xmlFile));
+        assertThat(getOperationCount(txtZipFile)).isEqualTo(getOperationCountWithLineSplitting(txtFile));
+    }
+
+    @Test
+    public void shouldSumTheOperationsOfEveryEntryOfTheArchive() throws Exception {
+        final File xmlFile = writeFile("import.xml", XML_HEADER + "<bulkCmConfigDataFile>\n" + XML_OPERATIONS + "</bulkCmConfigDataFile>\n");
+        final File txtFile = writeFile("import.txt", TXT_OPERATIONS);
+        final File csvFile = writeFile("import.csv", "FDN\n");
+        final File otherFile = writeFile("readme.md", "FDN\n");
+        final File zipFile = writeZipFile("import.zip", xmlFile, txtFile, csvFile, otherFile);
+
+        assertThat(getOperationCount(zipFile)).isEqualTo(3 + 7 + 1);
+    }
+
+    @Test
+    public void shouldClassifyAJobAsLargeOnlyWhenItsOperationsExceedTheThreshold() throws Exception {
+        final File file = writeFile("import.txt", "FDN\nFDN\nFDN\n");
+        givenResource(file);
+        when(bulkCmImportConfiguration.getCountOfOperationsInLargeJob()).thenReturn(2, 3);
+
+        assertThat(fileHandlerBean.isLargeJob(file.getPath())).isTrue();
+        assertThat(fileHandlerBean.isLargeJob(file.getPath())).isFalse();
+    }
+
+    @Test
+    public void shouldStopReadingTheXmlFileOnceTheThresholdIsExceeded() throws Exception {
+        final File file = writeFile("import.xml", XML_HEADER + "<bulkCmConfigDataFile>\n" + XML_OPERATIONS + "<not well formed");
+        givenResource(file);
+        when(bulkCmImportConfiguration.getCountOfOperationsInLargeJob()).thenReturn(2);
+
+        assertThat(fileHandlerBean.isLargeJob(file.getPath())).isTrue();
+        assertThat(fileHandlerBean.getOperationCount(file.getPath())).isZero();
+    }
+
+    @Test
+    public void shouldStopReadingTheArchiveOnceTheThresholdIsExceeded() throws Exception {
+        final File xmlFile = writeFile("import.xml", XML_HEADER + "<bulkCmConfigDataFile>\n" + XML_OPERATIONS + "<not well formed");
+        final File zipFile = writeZipFile("import.zip", xmlFile);
+        givenResource(zipFile);
+        when(bulkCmImportConfiguration.getCountOfOperationsInLargeJob()).thenReturn(2);
+
+        assertThat(fileHandlerBean.isLargeJob(zipFile.getPath())).isTrue();
+        assertThat(fileHandlerBean.getOperationCount(zipFile.getPath())).isZero();
+    }
+
+    private long getOperationCount(final File file) {
+        givenResource(file);
+        return fileHandlerBean.getOperationCount(file.getPath());
+    }
+
+    private void givenResource(final File file) {
+        when(fileResourceProvider.getFileResource(file.getPath())).thenReturn(resource);
+        when(resource.getName()).thenReturn(file.getName());
+    }
+
+    private File writeFile(final String fileName, final String content) throws IOException {
+        final File file = temporaryFolder.newFile(fileName);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private File writeZipFile(final String fileName, final File... entries) throws IOException {
+        final File file = temporaryFolder.newFile(fileName);
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(new FileOutputStream(file))) {
+            for (final File entry : entries) {
+                zipOutputStream.putNextEntry(new ZipEntry(entry.getName()));
+                zipOutputStream.write(Files.readAllBytes(entry.toPath()));
+                zipOutputStream.closeEntry();
+            }
+        }
+        return file;
+    }
+
+    private static long getOperationCountWithDomParser(final File file) throws Exception {
+        long count = 0;
+        final NodeList elements = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file).getElementsByTagName("xn:VsDataContainer");
+        for (int i = 0; i < elements.getLength(); i++) {
+            if (!((Element) elements.item(i)).getAttribute("modifier").isEmpty()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static long getOperationCountWithLineSplitting(final File file) throws IOException {
+        long count = 0;
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                for (final String word : line.split(" ")) {
+                    if ("FDN".equals(word)) {
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -12,8 +12,10 @@
 
 package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.metrics;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.SortedMap;
 import java.util.concurrent.TimeUnit;
@@ -35,14 +37,22 @@ import com.codahale.metrics.Timer;
 /**
  * A reporter class for logging metrics values to a SLF4J {@code Logger} periodically,
  * similar to {@code Slf4jReporter} but this reporter uses a CSV format for an easy metrics plot.
+ * <p>
+ * The records of all the metrics of an interval are written in a single log entry, one record per line, with the same timestamp.
+ * When only the changed metrics are reported, the metrics whose count or value is the same as in the previous interval are
+ * left out.
  */
 public class CsvLoggerReporter extends ScheduledReporter {
 
     private static final String SEPARATOR = ";";
-    private final SimpleDateFormat localDateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int ESTIMATED_RECORD_LENGTH = 256;
 
     private final Logger logger;
     private final Marker marker;
+    private final boolean changedOnly;
+    private Map<String, Object> lastValues = new HashMap<>();
 
     /**
      * Default constructor. It is recommended to use the Builder instead.
@@ -62,9 +72,33 @@ public class CsvLoggerReporter extends ScheduledReporter {
      */
     protected CsvLoggerReporter(final MetricRegistry registry, final Logger logger, final Marker marker, final TimeUnit rateUnit,
             final TimeUnit durationUnit, final MetricFilter filter) {
+        this(registry, logger, marker, rateUnit, durationUnit, filter, false);
+    }
+
+    /**
+     * Constructor. It is recommended to use the Builder instead.
+     *
+     * @param registry
+     *            MetricRegistry
+     * @param logger
+     *            the SLF4 Logger
+     * @param marker
+     *            the SLF4 marker
+     * @param rateUnit
+     *            the rate unit to use
+     * @param durationUnit
+     *            the duration unit.
+     * @param filter
+     *            to apply on the metrics.
+     * @param changedOnly
+     *            true to report only the metrics changed since the previous interval.
+     */
+    protected CsvLoggerReporter(final MetricRegistry registry, final Logger logger, final Marker marker, final TimeUnit rateUnit,
+            final TimeUnit durationUnit, final MetricFilter filter, final boolean changedOnly) {
         super(registry, "logger-reporter", filter, rateUnit, durationUnit);
         this.logger = logger;
         this.marker = marker;
+        this.changedOnly = changedOnly;
     }
 
     /**
@@ -79,71 +113,98 @@ public class CsvLoggerReporter extends ScheduledReporter {
     }
 
     @Override
-    @SuppressWarnings("rawtypes")
-    public void report(final SortedMap<String, Gauge> gauges, final SortedMap<String, Counter> counters,
+    @SuppressWarnings({ "rawtypes", "squid:S3457", "squid:S2629" })
+    public synchronized void report(final SortedMap<String, Gauge> gauges, final SortedMap<String, Counter> counters,
             final SortedMap<String, Histogram> histograms, final SortedMap<String, Meter> meters, final SortedMap<String, Timer> timers) {
+        final String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
+        final int metricCount = gauges.size() + counters.size() + histograms.size() + meters.size() + timers.size();
+        final StringBuilder records = new StringBuilder(metricCount * ESTIMATED_RECORD_LENGTH);
+        final Map<String, Object> currentValues = new HashMap<>(metricCount * 2);
+
         for (final Entry<String, Gauge> entry : gauges.entrySet()) {
-            logGauge(entry.getKey(), entry.getValue());
+            final Object value = entry.getValue().getValue();
+            if (isChanged(entry.getKey(), value, currentValues)) {
+                appendRecord(records, entry.getKey(), timestamp, value);
+            }
         }
 
         for (final Entry<String, Counter> entry : counters.entrySet()) {
-            logCounter(entry.getKey(), entry.getValue());
+            final long count = entry.getValue().getCount();
+            if (isChanged(entry.getKey(), count, currentValues)) {
+                appendRecord(records, entry.getKey(), timestamp, count);
+            }
         }
 
         for (final Entry<String, Histogram> entry : histograms.entrySet()) {
-            logHistogram(entry.getKey(), entry.getValue());
+            final long count = entry.getValue().getCount();
+            if (isChanged(entry.getKey(), count, currentValues)) {
+                appendHistogram(records, entry.getKey(), timestamp, count, entry.getValue());
+            }
         }
 
         for (final Entry<String, Meter> entry : meters.entrySet()) {
-            logMeter(entry.getKey(), entry.getValue());
+            final long count = entry.getValue().getCount();
+            if (isChanged(entry.getKey(), count, currentValues)) {
+                appendMeter(records, entry.getKey(), timestamp, count, entry.getValue());
+            }
         }
 
         for (final Entry<String, Timer> entry : timers.entrySet()) {
-            logTimer(entry.getKey(), entry.getValue());
+            final long count = entry.getValue().getCount();
+            if (isChanged(entry.getKey(), count, currentValues)) {
+                appendTimer(records, entry.getKey(), timestamp, count, entry.getValue());
+            }
         }
-    }
 
-    private void logTimer(final String name, final Timer timer) {
-        final Snapshot snapshot = timer.getSnapshot();
-        log(name, timer.getCount(), convertDuration(snapshot.getMin()), convertDuration(snapshot.getMax()), convertDuration(snapshot.getMean()),
-                convertDuration(snapshot.getStdDev()), convertDuration(snapshot.getMedian()), convertDuration(snapshot.get75thPercentile()),
-                convertDuration(snapshot.get95thPercentile()), convertDuration(snapshot.get98thPercentile()),
-                convertDuration(snapshot.get99thPercentile()), convertDuration(snapshot.get999thPercentile()), convertRate(timer.getMeanRate()),
-                convertRate(timer.getOneMinuteRate()), convertRate(timer.getFiveMinuteRate()), convertRate(timer.getFifteenMinuteRate()),
-                getRateUnit(), getDurationUnit());
+        lastValues = currentValues;
+        if (records.length() > 0) {
+            logger.info(marker, records.toString());
+        }
     }
 
-    private void logMeter(final String name, final Meter meter) {
-        log(name, meter.getCount(), convertRate(meter.getMeanRate()), convertRate(meter.getOneMinuteRate()), convertRate(meter.getFiveMinuteRate()),
-                convertRate(meter.getFifteenMinuteRate()), getRateUnit());
+    private boolean isChanged(final String name, final Object value, final Map<String, Object> currentValues) {
+        currentValues.put(name, value);
+        if (!changedOnly) {
+            return true;
+        }
+        final Object lastValue = lastValues.get(name);
+        return lastValue == null ? value != null || !lastValues.containsKey(name) : !lastValue.equals(value);
     }
 
-    private void logHistogram(final String name, final Histogram histogram) {
-        final Snapshot snapshot = histogram.getSnapshot();
-        log(name, histogram.getCount(), snapshot.getMin(), snapshot.getMax(), snapshot.getMean(), snapshot.getStdDev(), snapshot.getMedian(),
-                snapshot.get75thPercentile(), snapshot.get95thPercentile(), snapshot.get98thPercentile(), snapshot.get99thPercentile(),
-                snapshot.get999thPercentile());
+    private void appendTimer(final StringBuilder records, final String name, final String timestamp, final long count, final Timer timer) {
+        final Snapshot snapshot = timer.getSnapshot();
+        appendRecord(records, name, timestamp, count, convertDuration(snapshot.getMin()), convertDuration(snapshot.getMax()),
+                convertDuration(snapshot.getMean()), convertDuration(snapshot.getStdDev()), convertDuration(snapshot.getMedian()),
+                convertDuration(snapshot.get75thPercentile()), convertDuration(snapshot.get95thPercentile()),
+                convertDuration(snapshot.get98thPercentile()), convertDuration(snapshot.get99thPercentile()),
+                convertDuration(snapshot.get999thPercentile()), convertRate(timer.getMeanRate()), convertRate(timer.getOneMinuteRate()),
+                convertRate(timer.getFiveMinuteRate()), convertRate(timer.getFifteenMinuteRate()), getRateUnit(), getDurationUnit());
     }
 
-    private void logCounter(final String name, final Counter counter) {
-        log(name, counter.getCount());
+    private void appendMeter(final StringBuilder records, final String name, final String timestamp, final long count, final Meter meter) {
+        appendRecord(records, name, timestamp, count, convertRate(meter.getMeanRate()), convertRate(meter.getOneMinuteRate()),
+                convertRate(meter.getFiveMinuteRate()), convertRate(meter.getFifteenMinuteRate()), getRateUnit());
     }
 
-    @SuppressWarnings("rawtypes")
-    private void logGauge(final String name, final Gauge gauge) {
-        log(name, gauge.getValue());
+    private void appendHistogram(final StringBuilder records, final String name, final String timestamp, final long count,
+            final Histogram histogram) {
+        final Snapshot snapshot = histogram.getSnapshot();
+        appendRecord(records, name, timestamp, count, snapshot.getMin(), snapshot.getMax(), snapshot.getMean(),
+                snapshot.getStdDev(), snapshot.getMedian(), snapshot.get75thPercentile(), snapshot.get95thPercentile(),
+                snapshot.get98thPercentile(), snapshot.get99thPercentile(), snapshot.get999thPercentile());
     }
 
-    @SuppressWarnings({ "squid:S3457", "squid:S2629" })
-    private void log(final String metricName, final Object... values) {
-        final StringBuilder record = new StringBuilder(metricName);
-        record.append(SEPARATOR);
-        record.append(localDateFormat.format(new Date()));
+    private static void appendRecord(final StringBuilder records, final String metricName, final String timestamp, final Object... values) {
+        if (records.length() > 0) {
+            records.append(LINE_SEPARATOR);
+        }
+        records.append(metricName);
+        records.append(SEPARATOR);
+        records.append(timestamp);
         for (final Object value : values) {
-            record.append(SEPARATOR);
-            record.append(value);
+            records.append(SEPARATOR);
+            records.append(value);
         }
-        logger.info(marker, record.toString());
     }
 
     @Override
@@ -163,6 +224,7 @@ public class CsvLoggerReporter extends ScheduledReporter {
         private TimeUnit rateUnit;
         private TimeUnit durationUnit;
         private MetricFilter filter;
+        private boolean changedOnly;
 
         private Builder(final MetricRegistry registry) {
             this.registry = registry;
@@ -171,6 +233,7 @@ public class CsvLoggerReporter extends ScheduledReporter {
             rateUnit = TimeUnit.SECONDS;
             durationUnit = TimeUnit.MILLISECONDS;
             filter = MetricFilter.ALL;
+            changedOnly = false;
         }
 
         /**
@@ -233,13 +296,25 @@ public class CsvLoggerReporter extends ScheduledReporter {
             return this;
         }
 
+        /**
+         * Only report the metrics changed since the previous interval.
+         *
+         * @param changedOnly
+         *            true to report only the changed metrics
+         * @return {@code this}
+         */
+        public Builder reportChangedOnly(final boolean changedOnly) {
+            this.changedOnly = changedOnly;
+            return this;
+        }
+
         /**
          * Builds a {@code CsvLoggerReporter} with the given properties.
          *
          * @return a {@code CsvLoggerReporter}
          */
         public CsvLoggerReporter build() {
-            return new CsvLoggerReporter(registry, logger, marker, rateUnit, durationUnit, filter);
+            return new CsvLoggerReporter(registry, logger, marker, rateUnit, durationUnit, filter, changedOnly);
         }
     }
 }
@@ -0,0 +1,138 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+
+/**
+ * A {@code Reservoir} keeping the last measurements in a fixed size ring, written without locks.
+ * <p>
+ * A measurement claims its slot in the ring with a single atomic increment, so the recording threads never wait on each other
+ * or on a snapshot being taken. A snapshot copies the ring as it is at that time. When a time window is given, the measurements
+ * older than the window are left out of the snapshots, so the memory used stays the same whatever the rate of the measurements.
+ */
+public class LockFreeSlidingWindowReservoir implements Reservoir {
+
+    static final int DEFAULT_SIZE = 1028;
+
+    private final AtomicLongArray measurements;
+    private final AtomicLongArray ticks;
+    private final long windowInNanos;
+    private final Clock clock;
+    private final AtomicLong count = new AtomicLong();
+
+    /**
+     * Creates a reservoir keeping the last {@value #DEFAULT_SIZE} measurements.
+     */
+    public LockFreeSlidingWindowReservoir() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Creates a reservoir keeping the last measurements.
+     *
+     * @param size
+     *            number of measurements kept
+     */
+    public LockFreeSlidingWindowReservoir(final int size) {
+        this.measurements = new AtomicLongArray(size);
+        this.ticks = null;
+        this.windowInNanos = 0;
+        this.clock = null;
+    }
+
+    /**
+     * Creates a reservoir keeping the last measurements made in a time window.
+     *
+     * @param size
+     *            maximum number of measurements kept
+     * @param window
+     *            the time window
+     * @param windowUnit
+     *            the unit of the time window
+     */
+    public LockFreeSlidingWindowReservoir(final int size, final long window, final TimeUnit windowUnit) {
+        this(size, window, windowUnit, Clock.defaultClock());
+    }
+
+    /**
+     * Creates a reservoir keeping the last measurements made in a time window, as read from the given clock.
+     *
+     * @param size
+     *            maximum number of measurements kept
+     * @param window
+     *            the time window
+     * @param windowUnit
+     *            the unit of the time window
+     * @param clock
+     *            the clock of the measurements
+     */
+    public LockFreeSlidingWindowReservoir(final int size, final long window, final TimeUnit windowUnit, final Clock clock) {
+        this.measurements = new AtomicLongArray(size);
+        this.ticks = new AtomicLongArray(size);
+        this.windowInNanos = windowUnit.toNanos(window);
+        this.clock = clock;
+    }
+
+    @Override
+    public int size() {
+        final int size = (int) Math.min(count.get(), measurements.length());
+        if (ticks == null) {
+            return size;
+        }
+        final long oldestTick = clock.getTick() - windowInNanos;
+        int recentSize = 0;
+        for (int index = 0; index < size; index++) {
+            if (ticks.get(index) - oldestTick >= 0) {
+                recentSize++;
+            }
+        }
+        return recentSize;
+    }
+
+    @Override
+    public void update(final long value) {
+        final int index = (int) (count.getAndIncrement() % measurements.length());
+        if (ticks != null) {
+            ticks.lazySet(index, clock.getTick());
+        }
+        measurements.lazySet(index, value);
+    }
+
+    @Override
+    public Snapshot getSnapshot() {
+        final int size = (int) Math.min(count.get(), measurements.length());
+        final long[] values = new long[size];
+        if (ticks == null) {
+            for (int index = 0; index < size; index++) {
+                values[index] = measurements.get(index);
+            }
+            return new Snapshot(values);
+        }
+        final long oldestTick = clock.getTick() - windowInNanos;
+        int recentSize = 0;
+        for (int index = 0; index < size; index++) {
+            if (ticks.get(index) - oldestTick >= 0) {
+                values[recentSize++] = measurements.get(index);
+            }
+        }
+        return new Snapshot(Arrays.copyOf(values, recentSize));
+    }
+}
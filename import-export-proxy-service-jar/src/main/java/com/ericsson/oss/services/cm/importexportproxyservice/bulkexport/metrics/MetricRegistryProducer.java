@@ -12,6 +12,7 @@
 
 package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.metrics;
 
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -39,6 +40,9 @@ import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.metrics.
  * a {@code CsvLoggerReporter}. Typically the user does not need to specify any
  * system property because the defaults (enable jmx reporter and
  * disable logger reporter) suit most of the applications.
+ * <p>
+ * System properties also set the type and size of the reservoirs of the timers and histograms, and the maximum number of
+ * metrics registered.
  */
 @ApplicationScoped
 public class MetricRegistryProducer {
@@ -49,6 +53,11 @@ public class MetricRegistryProducer {
     private static final String DEFAULT_LOGGER = "com.ericsson.oss.services.cm.cmconfig.service.metrics.log";
     private static final String LOGGER_INTERVAL_IN_MINUTES = "com.ericsson.oss.services.cm.cmconfig.metrics.csvreporter.interval.minutes";
     private static final int DEFAULT_INTERVAL = 5;
+    private static final String LOGGER_CHANGED_ONLY_PROPERTY = "com.ericsson.oss.services.cm.cmconfig.metrics.csvreporter.changed.only";
+    private static final String RESERVOIR_TYPE_PROPERTY = "com.ericsson.oss.services.cm.cmconfig.metrics.reservoir.type";
+    private static final String RESERVOIR_SIZE_PROPERTY = "com.ericsson.oss.services.cm.cmconfig.metrics.reservoir.size";
+    private static final String RESERVOIR_WINDOW_IN_SECONDS_PROPERTY = "com.ericsson.oss.services.cm.cmconfig.metrics.reservoir.window.seconds";
+    private static final String MAX_METRICS_PROPERTY = "com.ericsson.oss.services.cm.cmconfig.metrics.max";
 
     private static final Logger logger = LoggerFactory.getLogger(MetricRegistryProducer.class);
 
@@ -68,7 +77,13 @@ public class MetricRegistryProducer {
 
         final CsvLoggerReporter loggerReporter = initCsvLoggerReporter(registry);
 
-        return new MetricRegistryWrapper(registry, jmxReporter, loggerReporter);
+        final ReservoirFactory reservoirFactory = initReservoirFactory();
+
+        final String maxMetricsProp = System.getProperty(MAX_METRICS_PROPERTY);
+        final int maxMetrics = maxMetricsProp != null ? Integer.valueOf(maxMetricsProp) : MetricRegistryWrapper.DEFAULT_MAX_METRICS;
+        logger.info("Metrics reservoirs : [{}], maximum number of metrics : [{}]", reservoirFactory, maxMetrics);
+
+        return new MetricRegistryWrapper(registry, jmxReporter, loggerReporter, reservoirFactory, maxMetrics);
     }
 
     /**
@@ -106,9 +121,11 @@ public class MetricRegistryProducer {
         final String loggerIntervalInMinutesProp = System.getProperty(LOGGER_INTERVAL_IN_MINUTES);
         final int loggerIntervalInMinutes = loggerIntervalInMinutesProp != null ? Integer.valueOf(loggerIntervalInMinutesProp) : DEFAULT_INTERVAL;
 
+        final boolean loggerChangedOnly = Boolean.parseBoolean(System.getProperty(LOGGER_CHANGED_ONLY_PROPERTY));
+
         if (enableLoggerReporter) {
             final CsvLoggerReporter loggerReporter = CsvLoggerReporter.forRegistry(registry).outputTo(LoggerFactory.getLogger(loggerProp))
-                    .convertRatesTo(TimeUnit.SECONDS).convertDurationsTo(TimeUnit.MILLISECONDS).build();
+                    .convertRatesTo(TimeUnit.SECONDS).convertDurationsTo(TimeUnit.MILLISECONDS).reportChangedOnly(loggerChangedOnly).build();
             loggerReporter.start(loggerIntervalInMinutes, TimeUnit.MINUTES);
 
             logger.info("CsvLoggerReporter enabled : [{}]", loggerReporter);
@@ -117,4 +134,25 @@ public class MetricRegistryProducer {
             return null;
         }
     }
+
+    private ReservoirFactory initReservoirFactory() {
+        final String reservoirTypeProp = System.getProperty(RESERVOIR_TYPE_PROPERTY);
+        ReservoirFactory.Type reservoirType = ReservoirFactory.DEFAULT_TYPE;
+        if (reservoirTypeProp != null) {
+            try {
+                reservoirType = ReservoirFactory.Type.valueOf(reservoirTypeProp.trim().toUpperCase(Locale.ROOT));
+            } catch (final IllegalArgumentException e) {
+                logger.warn("Unknown reservoir type [{}], using [{}]", reservoirTypeProp, reservoirType);
+            }
+        }
+
+        final String reservoirSizeProp = System.getProperty(RESERVOIR_SIZE_PROPERTY);
+        final int reservoirSize = reservoirSizeProp != null ? Integer.valueOf(reservoirSizeProp) : ReservoirFactory.DEFAULT_SIZE;
+
+        final String reservoirWindowProp = System.getProperty(RESERVOIR_WINDOW_IN_SECONDS_PROPERTY);
+        final long reservoirWindowInSeconds = reservoirWindowProp != null ? Long.valueOf(reservoirWindowProp)
+                : ReservoirFactory.DEFAULT_WINDOW_IN_SECONDS;
+
+        return new ReservoirFactory(reservoirType, reservoirSize, reservoirWindowInSeconds);
+    }
 }
@@ -12,21 +12,51 @@
 
 package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.metrics;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.codahale.metrics.Counter;
 import com.codahale.metrics.Histogram;
 import com.codahale.metrics.JmxReporter;
 import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 
 /**
  * Lightweight wrapper implementation for the codehale metrics {@code MetricRegistry}.
+ * <p>
+ * The timers and histograms record into the reservoirs of the {@code ReservoirFactory}. The metrics registered through the wrapper are
+ * also kept by name in the wrapper, so that they are looked up without copying the metrics of the registry. Once the wrapper has
+ * registered the maximum number of metrics, the lookups of new metrics return one unregistered metric of each type shared by all
+ * of them, so they are not reported and take no more memory, and are counted by the {@code droppedMetrics} counter.
  */
 public class MetricRegistryWrapper {
 
+    static final int DEFAULT_MAX_METRICS = 2000;
+    static final String DROPPED_METRICS_NAME = MetricRegistry.name(MetricRegistryWrapper.class, "droppedMetrics");
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricRegistryWrapper.class);
+
     private final MetricRegistry metricRegistry;
     private final JmxReporter jmxReporter;
     private final CsvLoggerReporter loggerReporter;
+    private final ReservoirFactory reservoirFactory;
+    private final int maxMetrics;
+    private final ConcurrentMap<String, Metric> metrics = new ConcurrentHashMap<>();
+    private final AtomicInteger registeredMetrics = new AtomicInteger();
+    private final AtomicBoolean maxMetricsReached = new AtomicBoolean();
+    private final Counter droppedMetrics;
+    private final Timer overflowTimer;
+    private final Meter overflowMeter = new Meter();
+    private final Counter overflowCounter = new Counter();
+    private final Histogram overflowHistogram;
 
     /**
      * Default constructor needed for CDI.
@@ -36,9 +66,19 @@ public class MetricRegistryWrapper {
     }
 
     public MetricRegistryWrapper(final MetricRegistry metricRegistry, final JmxReporter jmxReporter, final CsvLoggerReporter loggerReporter) {
+        this(metricRegistry, jmxReporter, loggerReporter, new ReservoirFactory(), DEFAULT_MAX_METRICS);
+    }
+
+    public MetricRegistryWrapper(final MetricRegistry metricRegistry, final JmxReporter jmxReporter, final CsvLoggerReporter loggerReporter,
+            final ReservoirFactory reservoirFactory, final int maxMetrics) {
         this.metricRegistry = metricRegistry;
         this.jmxReporter = jmxReporter;
         this.loggerReporter = loggerReporter;
+        this.reservoirFactory = reservoirFactory;
+        this.maxMetrics = maxMetrics;
+        this.droppedMetrics = metricRegistry == null ? new Counter() : metricRegistry.register(DROPPED_METRICS_NAME, new Counter());
+        this.overflowTimer = new Timer(reservoirFactory.newReservoir());
+        this.overflowHistogram = new Histogram(reservoirFactory.newReservoir());
     }
 
     public MetricRegistry getMetricRegistry() {
@@ -61,7 +101,7 @@ public class MetricRegistryWrapper {
      * @return the Timer instance.
      */
     public Timer timer(final String name) {
-        return metricRegistry.timer(name);
+        return getOrRegister(name, Timer.class, () -> new Timer(reservoirFactory.newReservoir()), overflowTimer);
     }
 
     /**
@@ -72,7 +112,7 @@ public class MetricRegistryWrapper {
      * @return the Meter instance.
      */
     public Meter meter(final String name) {
-        return metricRegistry.meter(name);
+        return getOrRegister(name, Meter.class, Meter::new, overflowMeter);
     }
 
     /**
@@ -83,7 +123,7 @@ public class MetricRegistryWrapper {
      * @return the Counter instance.
      */
     public Counter counter(final String name) {
-        return metricRegistry.counter(name);
+        return getOrRegister(name, Counter.class, Counter::new, overflowCounter);
     }
 
     /**
@@ -94,7 +134,7 @@ public class MetricRegistryWrapper {
      * @return the Histogram instance.
      */
     public Histogram histogram(final String name) {
-        return metricRegistry.histogram(name);
+        return getOrRegister(name, Histogram.class, () -> new Histogram(reservoirFactory.newReservoir()), overflowHistogram);
     }
 
     /**
@@ -108,4 +148,46 @@ public class MetricRegistryWrapper {
             loggerReporter.close();
         }
     }
+
+    private <T extends Metric> T getOrRegister(final String name, final Class<T> metricType, final Supplier<T> metricSupplier,
+            final T overflowMetric) {
+        final Metric metric = metrics.get(name);
+        if (metric != null) {
+            return cast(name, metric, metricType);
+        }
+        if (registeredMetrics.incrementAndGet() > maxMetrics) {
+            registeredMetrics.decrementAndGet();
+            droppedMetrics.inc();
+            if (maxMetricsReached.compareAndSet(false, true)) {
+                logger.warn("Maximum number of metrics [{}] reached, metric [{}] and the next new metrics are not registered", maxMetrics, name);
+            }
+            return overflowMetric;
+        }
+        final T newMetric = metricSupplier.get();
+        final Metric existingMetric = metrics.putIfAbsent(name, newMetric);
+        if (existingMetric != null) {
+            // Registered meanwhile by another thread
+            registeredMetrics.decrementAndGet();
+            return cast(name, existingMetric, metricType);
+        }
+        try {
+            return metricRegistry.register(name, newMetric);
+        } catch (final IllegalArgumentException e) {
+            // Registered in the registry without the wrapper
+            metrics.remove(name, newMetric);
+            registeredMetrics.decrementAndGet();
+            final Metric registeredMetric = metricRegistry.getMetrics().get(name);
+            if (metricType.isInstance(registeredMetric)) {
+                return metricType.cast(registeredMetric);
+            }
+            throw e;
+        }
+    }
+
+    private static <T extends Metric> T cast(final String name, final Metric metric, final Class<T> metricType) {
+        if (metricType.isInstance(metric)) {
+            return metricType.cast(metric);
+        }
+        throw new IllegalArgumentException("A metric named " + name + " already exists");
+    }
 }
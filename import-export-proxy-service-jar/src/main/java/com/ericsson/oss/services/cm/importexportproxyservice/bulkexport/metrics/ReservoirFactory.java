@@ -0,0 +1,104 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import com.codahale.metrics.ExponentiallyDecayingReservoir;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.UniformReservoir;
+
+/**
+ * Creates the {@code Reservoir} of the timers and histograms registered in the {@code MetricRegistryWrapper}.
+ */
+public class ReservoirFactory {
+
+    /**
+     * The types of reservoir.
+     */
+    public enum Type {
+        /**
+         * Lock-free ring of the last measurements.
+         */
+        SLIDING_WINDOW,
+        /**
+         * Lock-free ring of the last measurements, leaving out the measurements older than the time window.
+         */
+        SLIDING_TIME_WINDOW,
+        /**
+         * Dropwizard exponentially decaying reservoir, favouring the measurements of the last 5 minutes.
+         */
+        EXPONENTIALLY_DECAYING,
+        /**
+         * Dropwizard uniform reservoir, sampling all the measurements since the metric was registered.
+         */
+        UNIFORM
+    }
+
+    static final Type DEFAULT_TYPE = Type.SLIDING_WINDOW;
+    static final int DEFAULT_SIZE = LockFreeSlidingWindowReservoir.DEFAULT_SIZE;
+    static final long DEFAULT_WINDOW_IN_SECONDS = TimeUnit.MINUTES.toSeconds(5);
+
+    private static final double DEFAULT_ALPHA = 0.015;
+
+    private final Type type;
+    private final int size;
+    private final long windowInSeconds;
+
+    /**
+     * Creates a factory of the default reservoir.
+     */
+    public ReservoirFactory() {
+        this(DEFAULT_TYPE, DEFAULT_SIZE, DEFAULT_WINDOW_IN_SECONDS);
+    }
+
+    /**
+     * Creates a factory of reservoirs.
+     *
+     * @param type
+     *            type of the reservoirs
+     * @param size
+     *            maximum number of measurements kept in a reservoir
+     * @param windowInSeconds
+     *            time window of the {@code SLIDING_TIME_WINDOW} reservoirs
+     */
+    public ReservoirFactory(final Type type, final int size, final long windowInSeconds) {
+        this.type = type;
+        this.size = size;
+        this.windowInSeconds = windowInSeconds;
+    }
+
+    /**
+     * Creates a new reservoir.
+     *
+     * @return the reservoir.
+     */
+    public Reservoir newReservoir() {
+        switch (type) {
+            case SLIDING_TIME_WINDOW:
+                return new LockFreeSlidingWindowReservoir(size, windowInSeconds, TimeUnit.SECONDS);
+            case EXPONENTIALLY_DECAYING:
+                return new ExponentiallyDecayingReservoir(size, DEFAULT_ALPHA);
+            case UNIFORM:
+                return new UniformReservoir(size);
+            case SLIDING_WINDOW:
+            default:
+                return new LockFreeSlidingWindowReservoir(size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ReservoirFactory [type=" + type + ", size=" + size + ", windowInSeconds=" + windowInSeconds + "]";
+    }
+}
@@ -12,6 +12,10 @@
 
 package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.metrics;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import javax.inject.Inject;
 import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
@@ -32,12 +36,15 @@ import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.metrics.
  * resolved for the CDI application.
  * <p>
  * A new metric is registered only the first time the method is intercepted for
- * the same metric name.
+ * the same metric name. The timers of a method are resolved the first time the method is intercepted on a target class and
+ * reused for the following invocations on that class.
  */
 @Interceptor
 @Timed
 public class TimedInterceptor {
 
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<Method, TimedMethod>> TIMED_METHODS = new ConcurrentHashMap<>();
+
     @Inject
     @ApplicationMetrics
     private MetricRegistryWrapper metricRegistryWrapper;
@@ -57,58 +64,80 @@ public class TimedInterceptor {
     @AroundInvoke
     @SuppressWarnings("PMD.SignatureDeclareThrowsException")
     public Object aroundInvoke(final InvocationContext ctx) throws Exception {
-        final Timed timedMethod = ctx.getMethod().getAnnotation(Timed.class);
-        Timed timedClass = ctx.getTarget().getClass().getAnnotation(Timed.class);
+        final TimedMethod timedMethod = getTimedMethod(ctx.getTarget().getClass(), ctx.getMethod());
+        if (timedMethod.methodTimer != null && timedMethod.classTimer != null) {
+            return timeMethodAndClass(ctx, timedMethod);
+        } else if (timedMethod.methodTimer != null) {
+            return timeSingleMetric(ctx, timedMethod.methodTimer, timedMethod.methodMetricName);
+        } else if (timedMethod.classTimer != null) {
+            return timeSingleMetric(ctx, timedMethod.classTimer, timedMethod.classMetricName);
+        }
+        return ctx.proceed();
+    }
+
+    private TimedMethod getTimedMethod(final Class<?> targetClass, final Method method) {
+        return TIMED_METHODS.computeIfAbsent(targetClass, timedClass -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, timedMethod -> resolveTimedMethod(targetClass, timedMethod));
+    }
+
+    private TimedMethod resolveTimedMethod(final Class<?> targetClass, final Method method) {
+        final Timed timedMethod = method.getAnnotation(Timed.class);
+        Timed timedClass = targetClass.getAnnotation(Timed.class);
 
         if (timedClass == null) {
             // Method invoked via proxy
-            timedClass = ctx.getMethod().getDeclaringClass().getAnnotation(Timed.class);
+            timedClass = method.getDeclaringClass().getAnnotation(Timed.class);
         }
 
-        if ((timedMethod != null) && (timedClass != null)) {
-            return timeMethodAndClass(ctx, timedMethod, timedClass);
-        } else if (timedMethod != null) {
-            return timeMethodOrClassOnly(ctx, timedMethod);
-        } else if (timedClass != null) {
-            return timeMethodOrClassOnly(ctx, timedClass);
-        }
-        return ctx.proceed();
+        final String methodMetricName = timedMethod != null ? MetricNameUtil.forTimedMethod(targetClass, method, timedMethod) : null;
+        final String classMetricName = timedClass != null ? MetricNameUtil.forTimedMethod(targetClass, method, timedClass) : null;
+        return new TimedMethod(methodMetricName, methodMetricName != null ? metricRegistryWrapper.timer(methodMetricName) : null,
+                classMetricName, classMetricName != null ? metricRegistryWrapper.timer(classMetricName) : null);
     }
 
     @SuppressWarnings("PMD.SignatureDeclareThrowsException")
-    private Object timeMethodAndClass(final InvocationContext ctx, final Timed timedMethod, final Timed timedClass) throws Exception {
-        final String methodMetricName = MetricNameUtil.forTimedMethod(ctx.getTarget().getClass(), ctx.getMethod(), timedMethod);
-        final String classMetricName = MetricNameUtil.forTimedMethod(ctx.getTarget().getClass(), ctx.getMethod(), timedClass);
-        final Timer methodTimer = metricRegistryWrapper.timer(methodMetricName);
-        final Timer classTimer = metricRegistryWrapper.timer(classMetricName);
-
-        final Timer.Context classTimerContext = classTimer.time();
-        final Timer.Context methodTimerContext = methodTimer.time();
+    private Object timeMethodAndClass(final InvocationContext ctx, final TimedMethod timedMethod) throws Exception {
+        final Timer.Context classTimerContext = timedMethod.classTimer.time();
+        final Timer.Context methodTimerContext = timedMethod.methodTimer.time();
         try {
             return ctx.proceed();
         } finally {
             final long elapsedMethodTime = methodTimerContext.stop();
             final long elapsedTotalTime = classTimerContext.stop();
-            logger.debug("{} completed in [{}] seconds", methodMetricName, elapsedMethodTime / 1.0e9);
-            logger.debug("{} completed in [{}] seconds", classMetricName, elapsedTotalTime / 1.0e9);
+            if (logger.isDebugEnabled()) {
+                logger.debug("{} completed in [{}] seconds", timedMethod.methodMetricName, elapsedMethodTime / 1.0e9);
+                logger.debug("{} completed in [{}] seconds", timedMethod.classMetricName, elapsedTotalTime / 1.0e9);
+            }
         }
     }
 
     @SuppressWarnings("PMD.SignatureDeclareThrowsException")
-    private Object timeMethodOrClassOnly(final InvocationContext ctx, final Timed timedMethod) throws Exception {
-        final String metricName = MetricNameUtil.forTimedMethod(ctx.getTarget().getClass(), ctx.getMethod(), timedMethod);
-        return timeSingleMetric(ctx, metricName);
-    }
-
-    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
-    private Object timeSingleMetric(final InvocationContext ctx, final String metricName) throws Exception {
-        final Timer timer = metricRegistryWrapper.timer(metricName);
+    private Object timeSingleMetric(final InvocationContext ctx, final Timer timer, final String metricName) throws Exception {
         final Timer.Context context = timer.time();
         try {
             return ctx.proceed();
         } finally {
             final long elapsedTime = context.stop();
-            logger.debug("{} completed in [{}] seconds", metricName, elapsedTime / 1.0e9);
+            if (logger.isDebugEnabled()) {
+                logger.debug("{} completed in [{}] seconds", metricName, elapsedTime / 1.0e9);
+            }
+        }
+    }
+
+    /**
+     * The timers of a method intercepted on a target class, null when the method or its class is not timed.
+     */
+    private static final class TimedMethod {
+        private final String methodMetricName;
+        private final Timer methodTimer;
+        private final String classMetricName;
+        private final Timer classTimer;
+
+        private TimedMethod(final String methodMetricName, final Timer methodTimer, final String classMetricName, final Timer classTimer) {
+            this.methodMetricName = methodMetricName;
+            this.methodTimer = methodTimer;
+            this.classMetricName = classMetricName;
+            this.classTimer = classTimer;
         }
     }
 }
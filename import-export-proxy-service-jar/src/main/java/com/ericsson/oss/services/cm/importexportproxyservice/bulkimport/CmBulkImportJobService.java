@@ -60,6 +60,11 @@ public class CmBulkImportJobService {
         return requestPipeline.process(request);
     }
 
+    public CollectionResponse<ImportJobDto> getAllJobs(final Criteria<ImportJobDto> criteria, final String continuationToken) {
+        final GetAllImportJobsRequest request = getAllImportJobsRequest(criteria, continuationToken);
+        return requestPipeline.process(request);
+    }
+
     public CollectionResponse<ImportJobSummaryDto> getJobSummary(final Criteria<ImportJobSummaryDto> criteria) {
         final GetImportJobSummaryRequest request = getImportJobSummaryRequest(criteria);
         return requestPipeline.process(request);
@@ -86,6 +86,7 @@ public enum CmBulkImportServiceErrors {
             "All operations are in EXECUTED state and cannot be re-validated."),
     INVALID_OFFSET_PARAMETER("invalid-offset-parameter", INVALID_OFFSET_ERROR_CODE, "Invalid offset parameter - %s"),
     INVALID_LIMIT_PARAMETER("invalid-limit-parameter", INVALID_LIMIT_ERROR_CODE, "Invalid limit parameter - %s"),
+    INVALID_CONTINUATION_TOKEN("invalid-continuation-token", 7052, "Invalid continuation token - %s"),
     CANCEL_JOB_STATUS_MISMATCH("job-status-mismatch",
             IMPORT_JOB_CANNOT_BE_CANCELLED_ERROR_CODE,
             "The job cannot be cancelled because it does not have the correct status."),
@@ -0,0 +1,142 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import com.ericsson.oss.services.cm.bulkimport.persistence.entities.ImportJob;
+
+/**
+ * Opaque token to continue the listing of the import jobs after the last job of a page.
+ * <p>
+ * The jobs are paged from the newest to the oldest, by start time and then by ID, with the jobs that have no start time first, as in
+ * the listing read at an offset. The token
+ * holds the start time and the ID of the last job of the page, so the next page is read with a keyset condition on (time_start, id)
+ * instead of skipping all the jobs of the previous pages.
+ */
+public final class ImportJobContinuationToken {
+    private static final String SEPARATOR = "|";
+    private static final String NO_TIME_START = "";
+
+    private final Timestamp timeStart;
+    private final long id;
+
+    private ImportJobContinuationToken(final Timestamp timeStart, final long id) {
+        this.timeStart = timeStart;
+        this.id = id;
+    }
+
+    /**
+     * Gets the start time of the last job of the page.
+     *
+     * @return the start time, or null if the last job has not started
+     */
+    public Timestamp getTimeStart() {
+        return timeStart;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Creates the token to continue the listing after a page of import jobs.
+     *
+     * @param jobs
+     *            the import jobs of the page, in any order
+     * @return the token to read the next page, or null if the page is empty
+     */
+    public static ImportJobContinuationToken after(final List<ImportJob> jobs) {
+        ImportJobContinuationToken last = null;
+        for (final ImportJob job : jobs) {
+            final Timestamp timeStart = job.getTimeStart() != null ? toTimestamp(job.getTimeStart()) : null;
+            final ImportJobContinuationToken token = new ImportJobContinuationToken(timeStart, job.getId());
+            if (last == null || token.compareTo(last) < 0) {
+                last = token;
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Parses a token previously returned by {@link #encode()}.
+     *
+     * @param encodedToken
+     *            the opaque token
+     * @return the token
+     * @throws IllegalArgumentException
+     *             if the token is not valid
+     */
+    public static ImportJobContinuationToken parse(final String encodedToken) {
+        final String token = new String(Base64.getUrlDecoder().decode(encodedToken), StandardCharsets.UTF_8);
+        final String[] fields = token.split("\\" + SEPARATOR, -1);
+        if (fields.length != 2) {
+            throw new IllegalArgumentException("Invalid continuation token - " + encodedToken);
+        }
+        final Timestamp timeStart = NO_TIME_START.equals(fields[0]) ? null : Timestamp.valueOf(fields[0]);
+        return new ImportJobContinuationToken(timeStart, Long.parseLong(fields[1]));
+    }
+
+    /**
+     * Checks if a token can be parsed.
+     *
+     * @param encodedToken
+     *            the opaque token
+     * @return true if the token is valid
+     */
+    public static boolean isValid(final String encodedToken) {
+        try {
+            parse(encodedToken);
+            return true;
+        } catch (final IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Encodes the token, to be returned to the client.
+     *
+     * @return the opaque token
+     */
+    public String encode() {
+        final String token = (timeStart != null ? timeStart.toString() : NO_TIME_START) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /*
+     * Orders the tokens the opposite way to the pages, so the last job of a page has the lowest token. The jobs that have not started
+     * are paged first, so they are higher than any started job.
+     */
+    private int compareTo(final ImportJobContinuationToken other) {
+        if (timeStart == null || other.timeStart == null) {
+            final int result = Boolean.compare(timeStart == null, other.timeStart == null);
+            if (result != 0) {
+                return result;
+            }
+        } else {
+            final int result = timeStart.compareTo(other.timeStart);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Long.compare(id, other.id);
+    }
+
+    private static Timestamp toTimestamp(final Date date) {
+        return date instanceof Timestamp ? (Timestamp) date : new Timestamp(date.getTime());
+    }
+}
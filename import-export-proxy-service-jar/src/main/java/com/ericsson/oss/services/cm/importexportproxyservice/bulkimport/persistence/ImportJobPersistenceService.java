@@ -83,9 +83,25 @@ public class ImportJobPersistenceService {
     }
 
     public List<ImportJob> getAllJobs(final Criteria<ImportJob> criteria) {
+        return getAllJobs(criteria, null);
+    }
+
+    /**
+     * Gets a page of the import jobs, continuing after the last job of the previous page when a continuation token is given.
+     * <p>
+     * With a continuation token the page is read with a keyset condition on the start time and the ID of the jobs and the offset of
+     * the criteria is ignored, so every page costs the same as the first one.
+     *
+     * @param criteria
+     *            the criteria of the import jobs
+     * @param continuationToken
+     *            the token returned with the previous page, or null to read the page at the offset of the criteria
+     * @return the import jobs of the page
+     */
+    public List<ImportJob> getAllJobs(final Criteria<ImportJob> criteria, final ImportJobContinuationToken continuationToken) {
         final List<Long> ids = hasErrorFilter(criteria)
-                ? getAllImportJobWithErrorIds(criteria)
-                : getAllImportJobIds(criteria);
+                ? getAllImportJobWithErrorIds(criteria, continuationToken)
+                : getAllImportJobIds(criteria, continuationToken);
         if (ids.isEmpty()) {
             return new ArrayList<>();
         }
@@ -213,23 +229,21 @@ public class ImportJobPersistenceService {
     }
 
     @SuppressWarnings("checkstyle:MultipleStringLiterals")
-    private List<Long> getAllImportJobWithErrorIds(final Criteria<ImportJob> criteria) {
-        final String whereCondtions = MessageFormat.format("{0} AND {1}.{2}=''{3}''",
+    private List<Long> getAllImportJobWithErrorIds(final Criteria<ImportJob> criteria, final ImportJobContinuationToken continuationToken) {
+        final String whereCondtions = MessageFormat.format("{0} AND {1}.{2}=''{3}''{4}",
                 QueryBuilder.CONDITIONS_MARKER,
-                IMPORT_JOB_TABLE, ImportJob.JOB_TYPE, NBI_V2);
+                IMPORT_JOB_TABLE, ImportJob.JOB_TYPE, NBI_V2,
+                keysetCondition(continuationToken));
         final String sql = MessageFormat.format(
-                "SELECT DISTINCT {3}.{0},{3}.{1} FROM {2} AS {3} INNER JOIN {4} AS {5} ON {5}.{6}={3}.{7} WHERE {8} ORDER BY {3}.{9} DESC",
+                "SELECT DISTINCT {3}.{0},{3}.{1} FROM {2} AS {3} INNER JOIN {4} AS {5} ON {5}.{6}={3}.{7} WHERE {8} ORDER BY {9}",
                 ImportJob.ID_FIELD, ImportJob.TIME_START_FIELD,
                 IMPORT_JOB_TABLE, IMPORT_JOB_TABLE,
                 IMPORT_OPERATION_TABLE, IMPORT_OPERATION_TABLE,
                 ImportOperation.JOB_ID_FIELD, ImportJob.ID_FIELD,
                 whereCondtions,
-                ImportJob.TIME_START_FIELD
+                keysetOrder()
         );
-        final List idsResult = createNativeQuery(sql, criteria)
-                .setFirstResult(criteria.getOffset())
-                .setMaxResults(criteria.getLimit())
-                .getResultList();
+        final List idsResult = page(createNativeQuery(sql, criteria), criteria, continuationToken).getResultList();
         if (idsResult.isEmpty()) {
             return new ArrayList<>();
         }
@@ -243,18 +257,48 @@ public class ImportJobPersistenceService {
     }
 
     @SuppressWarnings("unchecked")
-    private List<Long> getAllImportJobIds(final Criteria<ImportJob> criteria) {
+    private List<Long> getAllImportJobIds(final Criteria<ImportJob> criteria, final ImportJobContinuationToken continuationToken) {
         final String sql = MessageFormat.format(
-                "SELECT {2}.{0} FROM {1} AS {2} WHERE {3} AND {2}.{4}=''{5}'' ORDER BY {2}.{6} DESC",
+                "SELECT {2}.{0} FROM {1} AS {2} WHERE {3} AND {2}.{4}=''{5}''{6} ORDER BY {7}",
                 ImportJob.ID_FIELD,
                 IMPORT_JOB_TABLE, IMPORT_JOB_TABLE,
                 QueryBuilder.CONDITIONS_MARKER,
                 ImportJob.JOB_TYPE, NBI_V2,
-                ImportJob.TIME_START_FIELD);
-        return createNativeQuery(sql, criteria)
-                .setFirstResult(criteria.getOffset())
-                .setMaxResults(criteria.getLimit())
-                .getResultList();
+                keysetCondition(continuationToken),
+                keysetOrder());
+        return page(createNativeQuery(sql, criteria), criteria, continuationToken).getResultList();
+    }
+
+    /*
+     * The start time and the ID of the token are parsed values, not user text, so they are safe to be written in the SQL statement. The
+     * jobs that have not started come before all the started jobs, as PostgreSQL sorts the null values first in a descending order, so
+     * all the started jobs follow a job that has not started, and a started job is only followed by the started jobs below it.
+     */
+    private String keysetCondition(final ImportJobContinuationToken continuationToken) {
+        if (continuationToken == null) {
+            return "";
+        }
+        if (continuationToken.getTimeStart() == null) {
+            return MessageFormat.format(" AND ({0}.{1} IS NOT NULL OR {0}.{2} < {3})",
+                    IMPORT_JOB_TABLE, ImportJob.TIME_START_FIELD, ImportJob.ID_FIELD,
+                    Long.toString(continuationToken.getId()));
+        }
+        return MessageFormat.format(" AND {0}.{1} IS NOT NULL AND ({0}.{1}, {0}.{2}) < (CAST(''{3}'' AS TIMESTAMP), {4})",
+                IMPORT_JOB_TABLE, ImportJob.TIME_START_FIELD, ImportJob.ID_FIELD,
+                continuationToken.getTimeStart().toString(),
+                Long.toString(continuationToken.getId()));
+    }
+
+    private String keysetOrder() {
+        return MessageFormat.format("{0}.{1} DESC NULLS FIRST, {0}.{2} DESC",
+                IMPORT_JOB_TABLE, ImportJob.TIME_START_FIELD, ImportJob.ID_FIELD);
+    }
+
+    private Query page(final Query query, final Criteria<ImportJob> criteria, final ImportJobContinuationToken continuationToken) {
+        if (continuationToken == null) {
+            return query.setFirstResult(criteria.getOffset()).setMaxResults(criteria.getLimit());
+        }
+        return query.setMaxResults(Math.min(criteria.getLimit(), MAX_JOB_COUNT_FOR_RETRIEVAL));
     }
 
     private Query createNativeQuery(final String sqlTemplate, final Criteria<ImportJob> criteria) {
@@ -12,8 +12,8 @@
 
 package com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.persistence;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -38,26 +38,52 @@ import com.google.common.collect.Lists;
 
 /**
  * Persistence service for the ImportJobOperationSummary entity.
+ * <p>
+ * The summary of whole jobs is counted with a single grouped query on the operations of the jobs. The summary of a page of the
+ * operations is counted from the IDs of the operations in the page.
  */
 public class ImportJobSummaryPersistenceService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ImportJobSummaryPersistenceService.class);
 
+    private static final String SUMMARY_FIELDS = ImportOperation.JOB_ID_FIELD + "," + ImportOperation.OPERATION_TYPE_FIELD + ","
+            + ImportOperation.OPERATION_STATUS_FIELD;
+
+    private static final String SUMMARY_SQL_QUERY = "SELECT " + SUMMARY_FIELDS + ", count(*)"
+            + " FROM " + ImportOperation.IMPORT_OPERATION_TABLE
+            + " WHERE " + QueryBuilder.CONDITIONS_MARKER
+            + " GROUP BY " + SUMMARY_FIELDS
+            + " ORDER BY " + ImportOperation.JOB_ID_FIELD;
+
     @Inject
     @PersistenceContext(unitName = "importPersistenceUnit")
     EntityManager entityManager;
 
     public List<ImportJobOperationSummary> getPerOperationType(final Criteria<ImportOperation> criteria) {
-        final List<Long> ids = getAllImportOperationIds(criteria);
-        if (ids.isEmpty()) {
-            return new ArrayList<>();
+        if (isPaged(criteria)) {
+            final List<Long> ids = getAllImportOperationIds(criteria);
+            if (ids.isEmpty()) {
+                return new ArrayList<>();
+            }
+            return getPerOperationType(ids);
         }
-        return getPerOperationType(ids);
+        final List<ImportJobOperationSummary> summaries = new ArrayList<>();
+        for (final Object objSummary : createNativeQuery(SUMMARY_SQL_QUERY, criteria).getResultList()) {
+            summaries.add(summary((Object[]) objSummary));
+        }
+        return summaries;
+    }
+
+    /*
+     * A page of the operations is counted from the IDs of the operations in the page.
+     */
+    private static boolean isPaged(final Criteria<ImportOperation> criteria) {
+        return criteria.getOffset() > 0 || criteria.getLimit() != Integer.MAX_VALUE;
     }
 
     @SuppressWarnings("checkstyle:OverloadMethodsDeclarationOrder")
     private List<ImportJobOperationSummary> getPerOperationType(final List<Long> ids) {
-        final List<ImportJobOperationSummary> summaries = new ArrayList<>();
+        final Map<List<Object>, ImportJobOperationSummary> summaries = new LinkedHashMap<>();
         final String sql =
                 "SELECT " + ImportOperation.JOB_ID_FIELD
                         + "," + ImportOperation.OPERATION_TYPE_FIELD
@@ -76,13 +102,15 @@ public class ImportJobSummaryPersistenceService {
             final List<?> resultList = entityManager.createNativeQuery(summarySql).getResultList();
             for (final Object objSummary : resultList) {
                 final ImportJobOperationSummary newSummary = summary((Object[]) objSummary);
-                final Boolean updated = updateExistingSummaries(summaries, newSummary);
-                if (!updated) {
-                    summaries.add(newSummary);
+                final ImportJobOperationSummary summary = summaries.get(summaryKey(newSummary));
+                if (summary != null) {
+                    summary.setCount(summary.getCount() + newSummary.getCount());
+                } else {
+                    summaries.put(summaryKey(newSummary), newSummary);
                 }
             }
         }
-        return summaries;
+        return new ArrayList<>(summaries.values());
     }
 
     @SuppressWarnings("unchecked")
@@ -110,10 +138,10 @@ public class ImportJobSummaryPersistenceService {
     }
 
     private ImportJobOperationSummary summary(final Object[] resultSet) {
-        final BigInteger jobId = (BigInteger) resultSet[0];
+        final Number jobId = (Number) resultSet[0];
         final OperationTypeV2 operationType = operationType(resultSet[1]);
         final String operationStatus = (String) resultSet[2];
-        final BigInteger count = (BigInteger) resultSet[3];
+        final Number count = (Number) resultSet[3];
         return new ImportJobOperationSummary(jobId.longValue(), operationType, operationStatus, count.intValue());
     }
 
@@ -144,16 +172,8 @@ public class ImportJobSummaryPersistenceService {
         return null;
     }
 
-    private static Boolean updateExistingSummaries(final List<ImportJobOperationSummary> summaries, final ImportJobOperationSummary newSummary) {
-        for (final ImportJobOperationSummary summary : summaries) {
-            if (summary.getOperationType().equals(newSummary.getOperationType())
-                    && summary.getOperationStatus().equalsIgnoreCase(newSummary.getOperationStatus())
-                    && summary.getJobId().equals(newSummary.getJobId())) {
-                final int count = summary.getCount() + newSummary.getCount();
-                summary.setCount(count);
-                return true;
-            }
-        }
-        return false;
+    private static List<Object> summaryKey(final ImportJobOperationSummary summary) {
+        final String operationStatus = summary.getOperationStatus() != null ? summary.getOperationStatus().toUpperCase() : null;
+        return Lists.<Object>newArrayList(summary.getJobId(), summary.getOperationType(), operationStatus);
     }
 }
@@ -16,6 +16,7 @@ import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import javax.inject.Inject;
 import javax.persistence.EntityManager;
@@ -23,6 +24,7 @@ import javax.persistence.PersistenceContext;
 import javax.persistence.Query;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.JoinType;
 import javax.persistence.criteria.Root;
 
 import com.ericsson.oss.services.cm.bulkimport.api.criteria.Criteria;
@@ -35,6 +37,8 @@ import com.ericsson.oss.services.cm.bulkimport.persistence.utils.QueryBuilder;
  * Persistence service for the ImportJob entity.
  */
 public class ImportOperationPersistenceService {
+    private static final String SIMPLE_ATTRIBUTES = "simpleAttributes";
+    private static final String COMPLEX_ATTRIBUTES = "complexAttributes";
 
     @Inject
     @PersistenceContext(unitName = "importPersistenceUnit")
@@ -83,6 +87,41 @@ public class ImportOperationPersistenceService {
         return result;
     }
 
+    /**
+     * Reads the operations matching the criteria with their simple and complex attributes loaded, one chunk at a time, so that the
+     * operations of a huge job are read in bounded memory and with a few queries per chunk instead of a few queries per operation.
+     * <p>
+     * The chunks are read in the order of the operation IDs, continuing after the last ID of the previous chunk. The operations of a
+     * chunk are detached after the chunk is consumed, so they must not be used after the consumer returns. The other entities of the
+     * persistence context are left managed.
+     *
+     * @param criteria
+     *            the criteria of the operations
+     * @param chunkSize
+     *            the maximum number of operations of a chunk
+     * @param consumer
+     *            the consumer of each chunk of operations
+     */
+    public void forEachChunkWithAttributes(final Criteria<ImportOperation> criteria, final int chunkSize,
+            final Consumer<List<ImportOperation>> consumer) {
+        int remaining = criteria.getLimit();
+        Long lastId = null;
+        while (remaining > 0) {
+            final List<?> ids = getImportOperationIdsAfter(criteria, lastId, Math.min(chunkSize, remaining));
+            if (ids.isEmpty()) {
+                break;
+            }
+            final List<ImportOperation> operations = getAllWithAttribute(ids, SIMPLE_ATTRIBUTES);
+            getAllWithAttribute(ids, COMPLEX_ATTRIBUTES);
+            consumer.accept(operations);
+            for (final ImportOperation operation : operations) {
+                entityManager.detach(operation);
+            }
+            remaining -= ids.size();
+            lastId = ((Number) ids.get(ids.size() - 1)).longValue();
+        }
+    }
+
     public Long totalCount(final Criteria<ImportOperation> criteria) {
         final String slq = "SELECT count(*)"
                 + " from " + ImportOperation.IMPORT_OPERATION_TABLE
@@ -123,6 +162,32 @@ public class ImportOperationPersistenceService {
         return entityManager.createQuery(criteriaQuery).getResultList();
     }
 
+    /**
+     * Gets the distinct neIds column values of the operations of an import job, without loading the operations.
+     *
+     * @param jobId
+     *            ID of the import job
+     * @param importOperationStatuses
+     *            statuses of the operations
+     * @return the distinct comma separated node names of the operations
+     */
+    public List<String> getDistinctNeIds(final long jobId, final String... importOperationStatuses) {
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<String> criteriaQuery = criteriaBuilder.createQuery(String.class);
+        final Root<ImportOperation> importOperation = criteriaQuery.from(ImportOperation.class);
+        criteriaQuery.select(importOperation.<String>get("neIds")).distinct(true).where(
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(
+                                importOperation.get("jobId"),
+                                jobId
+                        ),
+                        importOperation.get("operationStatus")
+                                .in(importOperationStatuses)
+                )
+        );
+        return entityManager.createQuery(criteriaQuery).getResultList();
+    }
+
     public List<ImportOperation> getAllImportOperations(final long jobId) {
         final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
         final CriteriaQuery<ImportOperation> criteriaQuery = criteriaBuilder.createQuery(ImportOperation.class);
@@ -149,6 +214,34 @@ public class ImportOperationPersistenceService {
                 .getResultList();
     }
 
+    /*
+     * The first chunk is read at the offset of the criteria and the next ones after the last ID read. The last ID is a number read
+     * from the database, so it is safe to be written in the SQL statement.
+     */
+    private List<?> getImportOperationIdsAfter(final Criteria<ImportOperation> criteria, final Long lastId, final int limit) {
+        final String sql = "SELECT " + ImportOperation.ID_FIELD
+                + " FROM " + ImportOperation.IMPORT_OPERATION_TABLE
+                + " WHERE " + QueryBuilder.CONDITIONS_MARKER
+                + (lastId != null ? " AND " + ImportOperation.ID_FIELD + " > " + lastId : "")
+                + " ORDER BY " + ImportOperation.ID_FIELD + " ASC";
+        return createNativeQuery(sql, criteria)
+                .setFirstResult(lastId != null ? 0 : criteria.getOffset())
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private List<ImportOperation> getAllWithAttribute(final List<?> ids, final String attributes) {
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<ImportOperation> query = criteriaBuilder.createQuery(ImportOperation.class);
+        final Root<ImportOperation> importOperation = query.from(ImportOperation.class);
+        importOperation.fetch(attributes, JoinType.LEFT);
+        final CriteriaQuery<ImportOperation> criteriaQuery = query
+                .distinct(true)
+                .where(importOperation.get("id").in(ids))
+                .orderBy(criteriaBuilder.asc(importOperation.get("id")));
+        return entityManager.createQuery(criteriaQuery).getResultList();
+    }
+
     private Query createNativeQuery(final String sqlTemplate, final Criteria<ImportOperation> criteria) {
         final QueryBuilder queryBuilder = new QueryBuilder();
         final Map<String, List<Restriction<?>>> restrictions = groupByFieldName(criteria.getRestrictions());
@@ -25,16 +25,27 @@ import java.util.List;
 public class CollectionResponse<T> extends Response<List<T>> {
 
     private final Long totalCount;
+    private final String continuationToken;
 
     protected CollectionResponse(final CollectionResponseBuilder<T, ?> builder) {
         super(builder.content);
         this.totalCount = builder.totalCount;
+        this.continuationToken = builder.continuationToken;
     }
 
     public Long getTotalCount() {
         return totalCount;
     }
 
+    /**
+     * Gets the token to read the page after this one.
+     *
+     * @return the continuation token, or null if there is no page after this one or the collection is not paged by token
+     */
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
     public static <T> CollectionResponse<T> collectItems(final List<T> items) {
         return collectionResponse(items).build();
     }
@@ -77,6 +88,7 @@ public class CollectionResponse<T> extends Response<List<T>> {
     public static class CollectionResponseBuilder<T, B extends CollectionResponseBuilder<T, B>> {
         private List<T> content = new ArrayList<>();
         private Long totalCount;
+        private String continuationToken;
 
         public CollectionResponse<T> build() {
             return new CollectionResponse<>(this);
@@ -85,6 +97,7 @@ public class CollectionResponse<T> extends Response<List<T>> {
         public B noContent() {
             this.content = new ArrayList<>();
             this.totalCount = null;
+            this.continuationToken = null;
             return (B) this;
         }
 
@@ -98,5 +111,10 @@ public class CollectionResponse<T> extends Response<List<T>> {
             this.totalCount = totalCount;
             return (B) this;
         }
+
+        public B withContinuationToken(final String continuationToken) {
+            this.continuationToken = continuationToken;
+            return (B) this;
+        }
     }
 }
\ No newline at end of file
@@ -20,10 +20,18 @@ public interface Pageable {
     int DEFAULT_PAGE_OFFSET = 0;
     int DEFAULT_PAGE_LIMIT = Integer.MAX_VALUE;
     boolean DEFAULT_TOTAL_COUNT_REQUIRED = false;
+    String DEFAULT_CONTINUATION_TOKEN = null;
 
     int getOffset();
 
     int getLimit();
 
     boolean isTotalCountRequired();
+
+    /**
+     * Gets the token returned with the previous page, to read the next page after it instead of at the offset.
+     *
+     * @return the continuation token, or null if the page is read at the offset
+     */
+    String getContinuationToken();
 }
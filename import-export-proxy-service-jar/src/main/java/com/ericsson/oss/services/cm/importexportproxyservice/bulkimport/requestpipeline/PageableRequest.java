@@ -37,4 +37,9 @@ public abstract class PageableRequest<T extends Response<?>> implements Request<
     public boolean isTotalCountRequired() {
         return getCriteria() != null ? getCriteria().isTotalCountRequired() : Pageable.DEFAULT_TOTAL_COUNT_REQUIRED;
     }
+
+    @Override
+    public String getContinuationToken() {
+        return Pageable.DEFAULT_CONTINUATION_TOKEN;
+    }
 }
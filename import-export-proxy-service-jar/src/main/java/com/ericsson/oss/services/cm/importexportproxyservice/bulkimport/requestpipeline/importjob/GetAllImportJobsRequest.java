@@ -21,16 +21,27 @@ import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestp
  */
 public class GetAllImportJobsRequest extends PageableRequest<GetAllImportJobsResponse> {
     private final Criteria<ImportJobDto> criteria;
+    private final String continuationToken;
 
-    GetAllImportJobsRequest(final Criteria<ImportJobDto> criteria) {
+    GetAllImportJobsRequest(final Criteria<ImportJobDto> criteria, final String continuationToken) {
         this.criteria = criteria;
+        this.continuationToken = continuationToken;
     }
 
     public Criteria<ImportJobDto> getCriteria() {
         return criteria;
     }
 
+    @Override
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
     public static GetAllImportJobsRequest getAllImportJobsRequest(final Criteria<ImportJobDto> criteria) {
-        return new GetAllImportJobsRequest(criteria);
+        return new GetAllImportJobsRequest(criteria, DEFAULT_CONTINUATION_TOKEN);
+    }
+
+    public static GetAllImportJobsRequest getAllImportJobsRequest(final Criteria<ImportJobDto> criteria, final String continuationToken) {
+        return new GetAllImportJobsRequest(criteria, continuationToken);
     }
 }
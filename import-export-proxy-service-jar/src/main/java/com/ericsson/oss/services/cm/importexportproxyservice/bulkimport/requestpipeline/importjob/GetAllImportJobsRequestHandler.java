@@ -17,6 +17,7 @@ import static com.ericsson.oss.services.cm.bulkimport.api.criteria.ImportJobCrit
 import static com.ericsson.oss.services.cm.bulkimport.api.criteria.ImportJobCriteria.ID;
 import static com.ericsson.oss.services.cm.bulkimport.api.criteria.ImportJobCriteria.NAME;
 import static com.ericsson.oss.services.cm.bulkimport.api.criteria.ImportJobCriteria.USER_ID;
+import static com.ericsson.oss.services.cm.bulkimport.constant.ImportConstants.MAX_JOB_COUNT_FOR_RETRIEVAL;
 import static com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.importjob.GetAllImportJobsResponse.getAllImportJobsResponse;
 
 import java.util.ArrayList;
@@ -29,9 +30,10 @@ import com.ericsson.oss.services.cm.bulkimport.api.criteria.Criteria;
 import com.ericsson.oss.services.cm.bulkimport.api.criteria.Restriction;
 import com.ericsson.oss.services.cm.bulkimport.api.domain.OperationStatus;
 import com.ericsson.oss.services.cm.bulkimport.api.dto.ImportJobDto;
-import com.ericsson.oss.services.cm.bulkimport.persistence.ImportJobPersistenceService;
-import com.ericsson.oss.services.cm.bulkimport.persistence.ImportJobPersistenceService.ImportJobCriteria;
 import com.ericsson.oss.services.cm.bulkimport.persistence.entities.ImportJob;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.persistence.ImportJobContinuationToken;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.persistence.ImportJobPersistenceService;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.persistence.ImportJobPersistenceService.ImportJobCriteria;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.RequestHandler;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.RequestHandler.Handle;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.RequestValidator;
@@ -59,11 +61,13 @@ public class GetAllImportJobsRequestHandler implements RequestHandler<GetAllImpo
 
     @Override
     public GetAllImportJobsResponse handle(final GetAllImportJobsRequest request) {
-        final List<ImportJobDto> result = getAll(request);
+        final List<ImportJob> jobs = getAllJobs(request);
+        final List<ImportJobDto> result = new ArrayList<>(transformer.convert(jobs));
         final Long totalCount = totalCount(request);
         return getAllImportJobsResponse()
                 .withContent(result)
                 .withTotalCount(totalCount)
+                .withContinuationToken(continuationToken(request, jobs))
                 .build();
     }
 
@@ -72,19 +76,34 @@ public class GetAllImportJobsRequestHandler implements RequestHandler<GetAllImpo
         return validators;
     }
 
-    List<ImportJobDto> getAll(final GetAllImportJobsRequest request) {
-        final List<ImportJobDto> result = new ArrayList<>();
+    List<ImportJob> getAllJobs(final GetAllImportJobsRequest request) {
+        final List<ImportJob> result = new ArrayList<>();
         final Criteria<ImportJobDto> requestCriteria = request.getCriteria();
         if (requestCriteria.getLimit() != 0) {
             final ImportJobCriteria criteria = criteria(requestCriteria);
             criteria.withSortParams(requestCriteria.getSortBy(), requestCriteria.getOrderBy());
             criteria.withPageParams(requestCriteria.getOffset(), requestCriteria.getLimit());
-            final List<ImportJob> jobs = jobPersistence.getAllJobs(criteria.build());
-            result.addAll(transformer.convert(jobs));
+            final ImportJobContinuationToken continuationToken = request.getContinuationToken() != null
+                    ? ImportJobContinuationToken.parse(request.getContinuationToken())
+                    : null;
+            result.addAll(jobPersistence.getAllJobs(criteria.build(), continuationToken));
         }
         return result;
     }
 
+    /*
+     * The token is returned only when the page is full, as a shorter page is the last one. The pages are always read from the newest job
+     * to the oldest, whatever the sort order requested for the jobs within the page.
+     */
+    String continuationToken(final GetAllImportJobsRequest request, final List<ImportJob> jobs) {
+        final int pageSize = Math.min(request.getCriteria().getLimit(), MAX_JOB_COUNT_FOR_RETRIEVAL);
+        if (jobs.isEmpty() || jobs.size() < pageSize) {
+            return null;
+        }
+        final ImportJobContinuationToken continuationToken = ImportJobContinuationToken.after(jobs);
+        return continuationToken != null ? continuationToken.encode() : null;
+    }
+
     Long totalCount(final GetAllImportJobsRequest request) {
         final Criteria<ImportJobDto> requestCriteria = request.getCriteria();
         if (!requestCriteria.isTotalCountRequired()) {
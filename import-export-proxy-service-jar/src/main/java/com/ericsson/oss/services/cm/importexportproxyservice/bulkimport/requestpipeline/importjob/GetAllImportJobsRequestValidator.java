@@ -12,8 +12,13 @@
 
 package com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.importjob;
 
+import static com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.ResponseMessage.responseMessage;
+
+import java.util.Collections;
 import java.util.List;
 
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.CmBulkImportServiceErrors;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.persistence.ImportJobContinuationToken;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.RequestValidator;
 
 /**
@@ -23,6 +28,12 @@ public class GetAllImportJobsRequestValidator implements RequestValidator<GetAll
 
     @Override
     public List validate(final GetAllImportJobsRequest request) {
+        final String continuationToken = request.getContinuationToken();
+        if (continuationToken != null && !ImportJobContinuationToken.isValid(continuationToken)) {
+            return Collections.singletonList(responseMessage()
+                    .error(CmBulkImportServiceErrors.INVALID_CONTINUATION_TOKEN, continuationToken)
+                    .build());
+        }
         return NO_ERRORS;
     }
 }
@@ -20,9 +20,9 @@ import static com.ericsson.oss.services.cm.bulkimport.persistence.entities.Impor
 import static com.ericsson.oss.services.cm.bulkimport.persistence.entities.ImportOperationStatusV2.VALID;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -30,28 +30,36 @@ import java.util.Set;
 import javax.ejb.Stateless;
 import javax.inject.Inject;
 
-import com.ericsson.oss.itpf.datalayer.dps.DataBucket;
 import com.ericsson.oss.itpf.datalayer.dps.DataPersistenceService;
 import com.ericsson.oss.itpf.datalayer.dps.persistence.ManagedObject;
+import com.ericsson.oss.itpf.datalayer.dps.query.Query;
+import com.ericsson.oss.itpf.datalayer.dps.query.TypeRestrictionBuilder;
 import com.ericsson.oss.itpf.sdk.core.annotation.EServiceRef;
-import com.ericsson.oss.services.cm.bulkimport.persistence.ImportOperationPersistenceService;
-import com.ericsson.oss.services.cm.bulkimport.persistence.entities.ImportOperation;
 import com.ericsson.oss.services.cm.bulkimport.util.FdnUtils;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.persistence.ImportOperationPersistenceService;
 
 /**
  * ImportNodesService class to get unique nodes in an Import job having operations valid for execution and executed.
+ * <p>
+ * The unsynchronized nodes are found with a single query of the CmFunction MOs having a pending or unsynchronized sync status,
+ * instead of reading the CmFunction MO of each node, and are cached for a short while for the repeated polls of the same job.
  */
 @Stateless
 public class ImportNodesService {
     private static final String[] OPERATION_STATUS_VALID_FOR_EXECUTION_AND_EXECUTED = {VALID.name(), EXECUTION_ERROR.name(), EXECUTED.name()};
     private static final String[] OPERATION_STATUS_VALID_FOR_EXECUTION = { VALID.name(), EXECUTION_ERROR.name(), EXECUTION_SKIPPED.name() };
     private static final String[] SYNC_STATUS_FOR_UNSYNC_NODES = {SYNC_STATUS_PENDING,  SYNC_STATUS_UNSYNCHRONIZED};
-    private static final String CM_FUNCTION_FDN = "NetworkElement=%s,CmFunction=1";
+    private static final String CM_FUNCTION_NAMESPACE = "OSS_NE_CM_DEF";
+    private static final String CM_FUNCTION_TYPE = "CmFunction";
+    private static final String NETWORK_ELEMENT_RDN_PREFIX = "NetworkElement=";
     private static final String SYNC_STATUS_ATTRIBUTE = "syncStatus";
 
     @Inject
     ImportOperationPersistenceService importOperationPersistenceService;
 
+    @Inject
+    UnsyncNodesCache unsyncNodesCache;
+
     @EServiceRef
     DataPersistenceService dps;
 
@@ -60,38 +68,64 @@ public class ImportNodesService {
     }
 
     public Map<String, String> getUnsyncNodeInfoForExecutionEligibleOperations(final long jobId) {
-        final List<String> nodeNames = getNodes(jobId, OPERATION_STATUS_VALID_FOR_EXECUTION);
-        return getUnsyncNodeStatusInfo(nodeNames);
+        return getUnsyncNodeInfo(jobId, OPERATION_STATUS_VALID_FOR_EXECUTION);
     }
 
     public Map<String, String> getUnsyncNodeInfoForExecutedAndExecutionEligibleOperations(final long jobId) {
-        final List<String> nodeNames = getNodes(jobId, OPERATION_STATUS_VALID_FOR_EXECUTION_AND_EXECUTED);
-        return getUnsyncNodeStatusInfo(nodeNames);
+        return getUnsyncNodeInfo(jobId, OPERATION_STATUS_VALID_FOR_EXECUTION_AND_EXECUTED);
+    }
+
+    private Map<String, String> getUnsyncNodeInfo(final long jobId, final String... importOperationStatus) {
+        final Map<String, String> unsyncNodes = unsyncNodesCache.get(jobId, importOperationStatus);
+        if (unsyncNodes != null) {
+            return unsyncNodes;
+        }
+        final Set<String> nodeNames = getNodeNames(jobId, importOperationStatus);
+        return unsyncNodesCache.put(jobId, getUnsyncNodeStatusInfo(nodeNames), importOperationStatus);
     }
 
-    private List<String> getNodes(final Long jobId, final String... importOperationStatus) {
-        final List<ImportOperation> importOperations = importOperationPersistenceService.getAllImportOperations(jobId, importOperationStatus);
+    private List<String> getNodes(final long jobId, final String... importOperationStatus) {
+        return new ArrayList<>(getNodeNames(jobId, importOperationStatus));
+    }
+
+    private Set<String> getNodeNames(final long jobId, final String... importOperationStatus) {
         final Set<String> neIds = new HashSet<>();
-        for (final ImportOperation importOperation : importOperations) {
-            if (!importOperation.getNeIds().isEmpty()) {
-                neIds.addAll(FdnUtils.neIdsStringToList(importOperation.getNeIds()));
+        for (final String operationNeIds : importOperationPersistenceService.getDistinctNeIds(jobId, importOperationStatus)) {
+            if (operationNeIds != null && !operationNeIds.isEmpty()) {
+                neIds.addAll(FdnUtils.neIdsStringToList(operationNeIds));
             }
         }
-        return new ArrayList<>(neIds);
+        return neIds;
     }
 
-    private Map<String, String> getUnsyncNodeStatusInfo(final List<String> nodeNames) {
+    /*
+     * The CmFunction MOs are queried by sync status only, as the number of unsynchronized nodes in the network is small compared to
+     * the nodes of a large import job, and are matched against the nodes of the job in memory.
+     */
+    private Map<String, String> getUnsyncNodeStatusInfo(final Set<String> nodeNames) {
         final Map<String, String> unsyncNodeDetails = new HashMap<>();
-        final DataBucket dataBucket = dps.getLiveBucket();
-        for (final String nodeName : nodeNames) {
-            final ManagedObject cmFunctionMo = dataBucket.findMoByFdn(String.format(CM_FUNCTION_FDN, nodeName));
-            if (cmFunctionMo != null) {
-                final String nodeSyncStatus = cmFunctionMo.getAttribute(SYNC_STATUS_ATTRIBUTE);
-                if (Arrays.asList(SYNC_STATUS_FOR_UNSYNC_NODES).contains(nodeSyncStatus)) {
-                    unsyncNodeDetails.put(nodeName, nodeSyncStatus);
-                }
+        if (nodeNames.isEmpty()) {
+            return unsyncNodeDetails;
+        }
+        final Query<TypeRestrictionBuilder> typeQuery = dps.getQueryBuilder().createTypeQuery(CM_FUNCTION_NAMESPACE, CM_FUNCTION_TYPE);
+        final TypeRestrictionBuilder restrictionBuilder = typeQuery.getRestrictionBuilder();
+        typeQuery.setRestriction(restrictionBuilder.in(SYNC_STATUS_ATTRIBUTE, (Object[]) SYNC_STATUS_FOR_UNSYNC_NODES));
+        final Iterator<ManagedObject> cmFunctionMos = dps.getLiveBucket().getQueryExecutor().execute(typeQuery);
+        while (cmFunctionMos.hasNext()) {
+            final ManagedObject cmFunctionMo = cmFunctionMos.next();
+            final String nodeName = getNetworkElementName(cmFunctionMo.getFdn());
+            if (nodeName != null && nodeNames.contains(nodeName)) {
+                unsyncNodeDetails.put(nodeName, cmFunctionMo.<String>getAttribute(SYNC_STATUS_ATTRIBUTE));
             }
         }
         return unsyncNodeDetails;
     }
+
+    private static String getNetworkElementName(final String cmFunctionFdn) {
+        if (!cmFunctionFdn.startsWith(NETWORK_ELEMENT_RDN_PREFIX)) {
+            return null;
+        }
+        final int end = cmFunctionFdn.indexOf(',');
+        return end < 0 ? null : cmFunctionFdn.substring(NETWORK_ELEMENT_RDN_PREFIX.length(), end);
+    }
 }
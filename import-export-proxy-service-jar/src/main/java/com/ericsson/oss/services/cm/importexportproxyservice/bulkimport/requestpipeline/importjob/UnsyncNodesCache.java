@@ -0,0 +1,92 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.importjob;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+
+/**
+ * Short-lived cache of the unsynchronized nodes of the import jobs, so that the repeated polls of the unsync nodes count of a job
+ * do not read the nodes of the job and their sync status again each time.
+ */
+@ApplicationScoped
+public class UnsyncNodesCache {
+
+    static final long EXPIRATION_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(15);
+
+    private final ConcurrentMap<String, CachedUnsyncNodes> unsyncNodesByJob = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the unsynchronized nodes of an import job if they have been read recently.
+     *
+     * @param jobId
+     *            ID of the import job
+     * @param operationStatuses
+     *            statuses of the operations whose nodes are checked
+     * @return the sync status of each unsynchronized node or null if they are not cached
+     */
+    public Map<String, String> get(final long jobId, final String... operationStatuses) {
+        final CachedUnsyncNodes cachedUnsyncNodes = unsyncNodesByJob.get(key(jobId, operationStatuses));
+        if (cachedUnsyncNodes == null || cachedUnsyncNodes.isExpired()) {
+            return null;
+        }
+        return cachedUnsyncNodes.unsyncNodes;
+    }
+
+    /**
+     * Caches the unsynchronized nodes of an import job, and evicts the ones that have expired.
+     *
+     * @param jobId
+     *            ID of the import job
+     * @param unsyncNodes
+     *            the sync status of each unsynchronized node
+     * @param operationStatuses
+     *            statuses of the operations whose nodes are checked
+     * @return the cached unsynchronized nodes, which are immutable
+     */
+    public Map<String, String> put(final long jobId, final Map<String, String> unsyncNodes, final String... operationStatuses) {
+        final Iterator<CachedUnsyncNodes> iterator = unsyncNodesByJob.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isExpired()) {
+                iterator.remove();
+            }
+        }
+        final CachedUnsyncNodes cachedUnsyncNodes = new CachedUnsyncNodes(Collections.unmodifiableMap(unsyncNodes));
+        unsyncNodesByJob.put(key(jobId, operationStatuses), cachedUnsyncNodes);
+        return cachedUnsyncNodes.unsyncNodes;
+    }
+
+    private static String key(final long jobId, final String... operationStatuses) {
+        return jobId + Arrays.toString(operationStatuses);
+    }
+
+    private static final class CachedUnsyncNodes {
+        private final Map<String, String> unsyncNodes;
+        private final long readTime = System.currentTimeMillis();
+
+        private CachedUnsyncNodes(final Map<String, String> unsyncNodes) {
+            this.unsyncNodes = unsyncNodes;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() - readTime > EXPIRATION_INTERVAL_MILLIS;
+        }
+    }
+}
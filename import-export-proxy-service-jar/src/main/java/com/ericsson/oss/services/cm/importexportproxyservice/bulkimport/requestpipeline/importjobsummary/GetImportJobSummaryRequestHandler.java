@@ -23,10 +23,10 @@ import javax.inject.Inject;
 import com.ericsson.oss.services.cm.bulkimport.api.criteria.Criteria;
 import com.ericsson.oss.services.cm.bulkimport.api.criteria.Restriction;
 import com.ericsson.oss.services.cm.bulkimport.api.dto.ImportJobSummaryDto;
-import com.ericsson.oss.services.cm.bulkimport.persistence.ImportJobSummaryPersistenceService;
 import com.ericsson.oss.services.cm.bulkimport.persistence.ImportOperationPersistenceService.ImportOperationCriteria;
 import com.ericsson.oss.services.cm.bulkimport.persistence.entities.ImportJobOperationSummary;
 import com.ericsson.oss.services.cm.bulkimport.persistence.entities.ImportOperation;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.persistence.ImportJobSummaryPersistenceService;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.RequestHandler;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.RequestHandler.Handle;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.RequestValidator;
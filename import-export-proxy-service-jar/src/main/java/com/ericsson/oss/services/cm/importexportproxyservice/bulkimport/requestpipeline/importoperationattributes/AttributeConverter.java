@@ -18,7 +18,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import com.ericsson.oss.itpf.datalayer.dps.modeling.modelservice.typed.persistence.primarytype.PrimaryTypeSpecification;
 import com.ericsson.oss.services.cm.bulkimport.api.dto.ImportOperationAttributeDto;
 
 /**
@@ -27,20 +26,20 @@ import com.ericsson.oss.services.cm.bulkimport.api.dto.ImportOperationAttributeD
 abstract class AttributeConverter {
 
     public List<ImportOperationAttributeDto> convert(final List attributes) {
-        return convert(attributes, null);
+        return convert(attributes, AttributeShape.UNKNOWN);
     }
 
-    public List<ImportOperationAttributeDto> convert(final List attributes, final PrimaryTypeSpecification primaryTypeSpecification) {
+    public List<ImportOperationAttributeDto> convert(final List attributes, final AttributeShape attributeShape) {
         final Map<String, ImportOperationAttributeDto> importOperationAttributeDtos = new HashMap<>();
         if (attributes != null) {
             for (final Object attribute : attributes) {
-                addAttribute(importOperationAttributeDtos, attribute, primaryTypeSpecification);
+                addAttribute(importOperationAttributeDtos, attribute, attributeShape);
             }
         }
         return newArrayList(importOperationAttributeDtos.values());
     }
 
     protected abstract void addAttribute(final Map<String, ImportOperationAttributeDto> importOperationAttributeDtos, final Object attribute,
-            final PrimaryTypeSpecification primaryTypeSpecification);
+            final AttributeShape attributeShape);
 
 }
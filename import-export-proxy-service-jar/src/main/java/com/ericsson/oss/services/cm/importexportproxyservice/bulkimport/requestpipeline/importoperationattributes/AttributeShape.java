@@ -0,0 +1,60 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.importoperationattributes;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable shape of the attributes of a primary type model, as needed to convert the import operation attributes: the attributes
+ * of list type, the sensitive attributes and the sensitive members of the complex attributes.
+ */
+final class AttributeShape {
+
+    /**
+     * Shape of the operations without model info, where no attribute is a list or sensitive.
+     */
+    static final AttributeShape UNKNOWN = new AttributeShape(Collections.<String>emptySet(), Collections.<String>emptySet(),
+            Collections.<String, Set<String>>emptyMap());
+
+    private final Set<String> listAttributeNames;
+    private final Set<String> sensitiveAttributeNames;
+    private final Map<String, Set<String>> sensitiveMemberNamesByComplexAttribute;
+
+    AttributeShape(final Set<String> listAttributeNames, final Set<String> sensitiveAttributeNames,
+            final Map<String, Set<String>> sensitiveMemberNamesByComplexAttribute) {
+        this.listAttributeNames = Collections.unmodifiableSet(listAttributeNames);
+        this.sensitiveAttributeNames = Collections.unmodifiableSet(sensitiveAttributeNames);
+        this.sensitiveMemberNamesByComplexAttribute = Collections.unmodifiableMap(sensitiveMemberNamesByComplexAttribute);
+    }
+
+    boolean isList(final String attributeName) {
+        return listAttributeNames.contains(attributeName);
+    }
+
+    boolean isSensitive(final String attributeName) {
+        return sensitiveAttributeNames.contains(attributeName);
+    }
+
+    /**
+     * Gets the sensitive members of a complex attribute.
+     *
+     * @param attributeName
+     *            name of the complex attribute
+     * @return the names of the sensitive members, or null if the complex attribute has no sensitive member
+     */
+    Set<String> getSensitiveMemberNames(final String attributeName) {
+        return sensitiveMemberNamesByComplexAttribute.get(attributeName);
+    }
+}
@@ -0,0 +1,121 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.importoperationattributes;
+
+import static com.ericsson.oss.itpf.modeling.modelservice.typed.core.DataType.COMPLEX_REF;
+import static com.ericsson.oss.itpf.modeling.modelservice.typed.core.DataType.LIST;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ericsson.oss.itpf.datalayer.dps.modeling.modelservice.typed.persistence.primarytype.PrimaryTypeAttributeSpecification;
+import com.ericsson.oss.itpf.datalayer.dps.modeling.modelservice.typed.persistence.primarytype.PrimaryTypeSpecification;
+import com.ericsson.oss.itpf.modeling.common.info.ModelInfo;
+import com.ericsson.oss.itpf.modeling.modelservice.ModelService;
+import com.ericsson.oss.itpf.modeling.modelservice.typed.core.DataTypeSpecification;
+import com.ericsson.oss.itpf.modeling.modelservice.typed.core.cdt.ComplexDataTypeAttributeSpecification;
+import com.ericsson.oss.itpf.modeling.modelservice.typed.core.cdt.ComplexDataTypeSpecification;
+import com.ericsson.oss.itpf.modeling.schema.util.SchemaConstants;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Cache of the {@link AttributeShape} of the primary type models, so that the model of an MO type and the complex data types of its
+ * attributes are read once for all the import operations on that MO type.
+ */
+@ApplicationScoped
+class AttributeShapeCache {
+
+    static final int MAX_CACHED_SHAPES = 1000;
+    static final long EXPIRY_MINUTES = 10;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AttributeShapeCache.class);
+
+    private final Cache<ModelInfo, AttributeShape> attributeShapes = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_SHAPES)
+            .expireAfterWrite(EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    @Inject
+    ModelService modelService;
+
+    /**
+     * Gets the attribute shape of a primary type model, reading the model if the shape is not cached.
+     *
+     * @param modelInfo
+     *            model info of the primary type
+     * @return the attribute shape of the primary type
+     */
+    AttributeShape get(final ModelInfo modelInfo) {
+        AttributeShape attributeShape = attributeShapes.getIfPresent(modelInfo);
+        if (attributeShape == null) {
+            attributeShape = build(modelService.getTypedAccess().getEModelSpecification(modelInfo, PrimaryTypeSpecification.class));
+            attributeShapes.put(modelInfo, attributeShape);
+        }
+        return attributeShape;
+    }
+
+    private AttributeShape build(final PrimaryTypeSpecification primaryTypeSpecification) {
+        final Set<String> listAttributeNames = new HashSet<>();
+        final Set<String> sensitiveAttributeNames = new HashSet<>();
+        final Map<String, Set<String>> sensitiveMemberNamesByComplexAttribute = new HashMap<>();
+        for (final PrimaryTypeAttributeSpecification attributeSpecification : primaryTypeSpecification.getAllAttributeSpecifications()) {
+            final String attributeName = attributeSpecification.getName();
+            if (attributeSpecification.isSensitive()) {
+                sensitiveAttributeNames.add(attributeName);
+            }
+            final DataTypeSpecification dataTypeSpecification = attributeSpecification.getDataTypeSpecification();
+            if (dataTypeSpecification.getDataType() == LIST) {
+                listAttributeNames.add(attributeName);
+            }
+            final Set<String> sensitiveMemberNames = getSensitiveMemberNames(attributeName, dataTypeSpecification);
+            if (!sensitiveMemberNames.isEmpty()) {
+                sensitiveMemberNamesByComplexAttribute.put(attributeName, sensitiveMemberNames);
+            }
+        }
+        return new AttributeShape(listAttributeNames, sensitiveAttributeNames, sensitiveMemberNamesByComplexAttribute);
+    }
+
+    private Set<String> getSensitiveMemberNames(final String attributeName, final DataTypeSpecification dataTypeSpecification) {
+        final Set<String> sensitiveMemberNames = new HashSet<>();
+        final DataTypeSpecification complexDataTypeSpecification = dataTypeSpecification.getDataType() == LIST
+                ? dataTypeSpecification.getValuesDataTypeSpecification()
+                : dataTypeSpecification;
+        if (complexDataTypeSpecification == null || complexDataTypeSpecification.getDataType() != COMPLEX_REF) {
+            return sensitiveMemberNames;
+        }
+        try {
+            final ModelInfo modelInfo = complexDataTypeSpecification.getReferencedDataType();
+            final ComplexDataTypeSpecification complexDataSpec = modelService.getTypedAccess().getEModelSpecification(
+                    new ModelInfo(SchemaConstants.OSS_CDT, modelInfo.getNamespace(), modelInfo.getName(), modelInfo.getVersion().toString()),
+                    ComplexDataTypeSpecification.class);
+            for (final ComplexDataTypeAttributeSpecification memberSpecification : complexDataSpec.getAllAttributeSpecifications()) {
+                if (memberSpecification.isSensitive()) {
+                    sensitiveMemberNames.add(memberSpecification.getName());
+                }
+            }
+        } catch (final Exception e) {
+            LOGGER.warn("Exception occured while fetching Model for Attribute [{}], ignoring.", attributeName, e);
+        }
+        return sensitiveMemberNames;
+    }
+}
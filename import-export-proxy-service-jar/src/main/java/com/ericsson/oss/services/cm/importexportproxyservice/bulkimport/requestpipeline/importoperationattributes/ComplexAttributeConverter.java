@@ -16,7 +16,6 @@ import java.util.Map;
 
 import javax.inject.Inject;
 
-import com.ericsson.oss.itpf.datalayer.dps.modeling.modelservice.typed.persistence.primarytype.PrimaryTypeSpecification;
 import com.ericsson.oss.services.cm.bulkimport.api.dto.ImportOperationAttributeDto;
 import com.ericsson.oss.services.cm.bulkimport.api.dto.ImportOperationAttributeDto.ComplexAttributeDto;
 import com.ericsson.oss.services.cm.bulkimport.api.dto.ImportOperationAttributeDto.ComplexAttributeListDto;
@@ -33,8 +32,8 @@ class ComplexAttributeConverter extends AttributeConverter {
     @Override
     @SuppressWarnings("unchecked")
     protected void addAttribute(final Map<String, ImportOperationAttributeDto> processedAttributes, final Object newAttribute,
-            final PrimaryTypeSpecification primaryTypeSpecification) {
-        final ComplexAttributeDto newAttributeDto = complexElementConverter.convert((ComplexAttributeV2) newAttribute, primaryTypeSpecification);
+            final AttributeShape attributeShape) {
+        final ComplexAttributeDto newAttributeDto = complexElementConverter.convert((ComplexAttributeV2) newAttribute, attributeShape);
         final ImportOperationAttributeDto existingAttributeDto = processedAttributes.get(newAttributeDto.getName());
         if (existingAttributeDto == null) {
             processedAttributes.put(newAttributeDto.getName(), newAttributeDto);
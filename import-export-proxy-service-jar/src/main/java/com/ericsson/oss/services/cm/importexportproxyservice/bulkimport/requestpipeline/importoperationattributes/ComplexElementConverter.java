@@ -12,7 +12,6 @@
 
 package com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.importoperationattributes;
 
-import static com.ericsson.oss.itpf.modeling.modelservice.typed.core.DataType.LIST;
 import static com.ericsson.oss.services.cm.bulkimport.api.dto.ImportOperationAttributeDto.importOperationAttributeDto;
 import static com.ericsson.oss.services.cm.bulkimport.constant.ImportConstants.MASKED_VALUE_FOR_SENSITIVE_ATTRIBUTE;
 
@@ -21,21 +20,11 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-
-import javax.inject.Inject;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.ericsson.oss.itpf.datalayer.dps.exception.model.NotDefinedInModelException;
-import com.ericsson.oss.itpf.datalayer.dps.modeling.modelservice.typed.persistence.primarytype.PrimaryTypeSpecification;
-import com.ericsson.oss.itpf.modeling.common.info.ModelInfo;
-import com.ericsson.oss.itpf.modeling.modelservice.ModelService;
-import com.ericsson.oss.itpf.modeling.modelservice.typed.core.DataType;
-import com.ericsson.oss.itpf.modeling.modelservice.typed.core.DataTypeSpecification;
-import com.ericsson.oss.itpf.modeling.modelservice.typed.core.cdt.ComplexDataTypeAttributeSpecification;
-import com.ericsson.oss.itpf.modeling.modelservice.typed.core.cdt.ComplexDataTypeSpecification;
-import com.ericsson.oss.itpf.modeling.schema.util.SchemaConstants;
 import com.ericsson.oss.services.cm.bulkimport.api.dto.ImportOperationAttributeDto.ComplexAttributeDto;
 import com.ericsson.oss.services.cm.bulkimport.api.dto.ImportOperationAttributeDto.ComplexAttributeListDto;
 import com.ericsson.oss.services.cm.bulkimport.persistence.entities.attributes.ComplexAttributeV2;
@@ -48,25 +37,14 @@ class ComplexElementConverter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ComplexElementConverter.class);
 
-    @Inject
-    ModelService modelService;
-
-    public ComplexAttributeDto convert(final ComplexAttributeV2 attribute, final PrimaryTypeSpecification primaryTypeSpecification) {
-        if (primaryTypeSpecification == null) {
-            return convert(attribute);
-        }
-        final ComplexDataTypeSpecification complexDataSpec = getComplexTypeSpecification(primaryTypeSpecification, attribute.getName());
-        if (complexDataSpec == null) {
-            return convert(attribute);
-        }
-        final Collection<ComplexDataTypeAttributeSpecification> allAttrSpecs = complexDataSpec.getAllAttributeSpecifications();
-        if (allAttrSpecs.stream().noneMatch(spec -> spec.isSensitive())) {
+    public ComplexAttributeDto convert(final ComplexAttributeV2 attribute, final AttributeShape attributeShape) {
+        final Set<String> sensitiveMemberNames = attributeShape.getSensitiveMemberNames(attribute.getName());
+        if (sensitiveMemberNames == null) {
             return convert(attribute);
         }
         final Map<String, Object> value = new HashMap<>();
         for (final ComplexElementV2 complexElement : attribute.getValue()) {
-            final Object object = getComplexElementValue(complexElement.getValue(),
-                    complexDataSpec.getAttributeSpecification(complexElement.getName()).isSensitive());
+            final Object object = getComplexElementValue(complexElement.getValue(), sensitiveMemberNames.contains(complexElement.getName()));
             if (value.containsKey(complexElement.getName())) {
                 if (value.get(complexElement.getName()) instanceof List) {
                     final List<Object> tmpList = (List<Object>) value.get(complexElement.getName());
@@ -148,26 +126,4 @@ class ComplexElementConverter {
         LOGGER.warn("Unexpected attribute type {}", value.getClass().getName());
         return "<unknown attribute type>"; // TODO ?
     }
-
-    public ComplexDataTypeSpecification getComplexTypeSpecification(final PrimaryTypeSpecification primaryTypeSpecification,
-            final String attributeName) {
-        try {
-            final DataTypeSpecification dataTypeSpecification = primaryTypeSpecification.getAttributeSpecification(attributeName)
-                    .getDataTypeSpecification();
-            final DataType attributeDataType = dataTypeSpecification.getDataType();
-            ModelInfo modelInfo = modelInfo = dataTypeSpecification.getReferencedDataType();
-            if (attributeDataType == LIST) {
-                final DataTypeSpecification innerDataTypeSpecification = dataTypeSpecification.getValuesDataTypeSpecification();
-                modelInfo = innerDataTypeSpecification.getReferencedDataType();
-            }
-            return modelService.getTypedAccess().getEModelSpecification(new ModelInfo(SchemaConstants.OSS_CDT, modelInfo.getNamespace(),
-                    modelInfo.getName(), modelInfo.getVersion().toString()), ComplexDataTypeSpecification.class);
-        } catch (final NotDefinedInModelException e) {
-            LOGGER.warn("Attribute [{}] is not defined in model, ignoring.", attributeName, e);
-            return null;
-        } catch (final Exception e) {
-            LOGGER.warn("Exception occured while fetching Model for Attribute [{}], ignoring.", attributeName, e);
-            return null;
-        }
-    }
 }
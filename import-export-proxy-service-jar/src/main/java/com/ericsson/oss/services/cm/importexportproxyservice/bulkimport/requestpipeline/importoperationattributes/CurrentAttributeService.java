@@ -12,6 +12,7 @@
 
 package com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.importoperationattributes;
 
+import java.util.List;
 import java.util.Map;
 
 import com.ericsson.oss.services.cm.bulkimport.persistence.entities.ImportOperation;
@@ -31,4 +32,18 @@ public interface CurrentAttributeService {
      * @return map of attributes if MO exists. Null if MO does not exist.
      */
     Map<String, Object> getCurrentAttributeValues(final ImportOperation importOperation, final boolean isNonPersistentAttrRequired);
+
+    /**
+     * Gets current attribute values from DPS for a page of import operations. Each managed object and each model is read once,
+     * and the attributes of a managed object are read in one call.
+     *
+     * @param importOperations
+     *            import operations.
+     * @param isNonPersistentAttrRequired
+     *            param to determine need for non-persistent attribute retrieval.
+     * @return map of attributes per import operation ID, in the order of the import operations. The import operations whose MO
+     *         does not exist are left out.
+     */
+    Map<Long, Map<String, Object>> getCurrentAttributeValues(final List<ImportOperation> importOperations,
+            final boolean isNonPersistentAttrRequired);
 }
@@ -12,7 +12,7 @@
 
 package com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.importoperationattributes;
 
-import static com.ericsson.oss.services.cm.bulkimport.persistence.ImportOperationPersistenceService.importOperationCriteria;
+import static com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.persistence.ImportOperationPersistenceService.importOperationCriteria;
 import static com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.importoperationattributes.GetAllImportOperationAttributesResponse.getAllImportOperationAttributesResponse;
 
 import java.util.ArrayList;
@@ -22,9 +22,9 @@ import javax.inject.Inject;
 import com.ericsson.oss.services.cm.bulkimport.api.criteria.Criteria;
 import com.ericsson.oss.services.cm.bulkimport.api.criteria.Restriction;
 import com.ericsson.oss.services.cm.bulkimport.api.dto.ImportOperationAttributeDto;
-import com.ericsson.oss.services.cm.bulkimport.persistence.ImportOperationPersistenceService;
-import com.ericsson.oss.services.cm.bulkimport.persistence.ImportOperationPersistenceService.ImportOperationCriteria;
 import com.ericsson.oss.services.cm.bulkimport.persistence.entities.ImportOperation;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.persistence.ImportOperationPersistenceService;
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.persistence.ImportOperationPersistenceService.ImportOperationCriteria;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.RequestHandler;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.RequestHandler.Handle;
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.RequestValidator;
@@ -35,6 +35,8 @@ import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestp
 @Handle(GetAllImportOperationAttributesRequest.class)
 public class GetAllImportOperationAttributesRequestHandler
         implements RequestHandler<GetAllImportOperationAttributesRequest, GetAllImportOperationAttributesResponse> {
+    static final int OPERATIONS_CHUNK_SIZE = 500;
+
     @Inject
     ImportOperationAttributeConverter attributeConverter;
 
@@ -57,11 +59,11 @@ public class GetAllImportOperationAttributesRequestHandler
     private List<ImportOperationAttributeDto> getAll(final GetAllImportOperationAttributesRequest request) {
         final List<ImportOperationAttributeDto> result = new ArrayList<>();
         final Criteria<ImportOperation> criteria = criteria(request.getCriteria());
-        final List<ImportOperation> operations = operationPersistence.getAll(criteria);
-        for (final ImportOperation operation : operations) {
-            final List<ImportOperationAttributeDto> attributes = attributeConverter.convert(operation);
-            result.addAll(attributes);
-        }
+        operationPersistence.forEachChunkWithAttributes(criteria, OPERATIONS_CHUNK_SIZE, operations -> {
+            for (final ImportOperation operation : operations) {
+                result.addAll(attributeConverter.convert(operation));
+            }
+        });
         return result;
     }
 
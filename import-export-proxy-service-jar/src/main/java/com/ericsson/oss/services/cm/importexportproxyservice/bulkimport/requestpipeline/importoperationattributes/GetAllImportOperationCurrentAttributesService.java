@@ -42,9 +42,10 @@ public class GetAllImportOperationCurrentAttributesService {
         final List<ImportOperationAttributeDto> result = new ArrayList<>();
         final Criteria<ImportOperation> criteria = criteria(requestCriteria);
         final List<ImportOperation> operations = operationPersistence.getAll(criteria);
+        final Map<Long, Map<String, Object>> currentAttributesByOperationId =
+                currentAttributeService.getCurrentAttributeValues(operations, isNonPersistentAttrRequired);
         for (final ImportOperation operation : operations) {
-            final Map<String, Object> currentAttributes = currentAttributeService.getCurrentAttributeValues(operation, isNonPersistentAttrRequired);
-
+            final Map<String, Object> currentAttributes = currentAttributesByOperationId.get(operation.getId());
             if (currentAttributes == null) {
                 continue;
             }
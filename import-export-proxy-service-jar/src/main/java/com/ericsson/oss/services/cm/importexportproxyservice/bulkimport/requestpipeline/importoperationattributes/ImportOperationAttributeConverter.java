@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 
 import javax.inject.Inject;
@@ -25,12 +26,7 @@ import javax.inject.Inject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.ericsson.oss.itpf.datalayer.dps.modeling.modelservice.typed.persistence.primarytype.PrimaryTypeSpecification;
 import com.ericsson.oss.itpf.modeling.common.info.ModelInfo;
-import com.ericsson.oss.itpf.modeling.modelservice.ModelService;
-import com.ericsson.oss.itpf.modeling.modelservice.typed.core.DataType;
-import com.ericsson.oss.itpf.modeling.modelservice.typed.core.DataTypeSpecification;
-import com.ericsson.oss.itpf.modeling.modelservice.typed.core.exception.UnknownElementException;
 import com.ericsson.oss.itpf.modeling.schema.util.SchemaConstants;
 import com.ericsson.oss.services.cm.bulkimport.api.dto.ImportOperationAttributeDto;
 import com.ericsson.oss.services.cm.bulkimport.api.dto.ImportOperationAttributeDto.ComplexAttributeDto;
@@ -41,7 +37,8 @@ import com.ericsson.oss.services.cm.bulkimport.persistence.entities.ImportOperat
 import com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.Converter;
 
 /**
- * Converter class for ImportOperation attributes.
+ * Converter class for ImportOperation attributes. The attribute shape of the model of the operations is read from the
+ * {@link AttributeShapeCache}, so the model is resolved once per MO type and not once per operation.
  */
 public class ImportOperationAttributeConverter implements Converter<ImportOperation, List<ImportOperationAttributeDto>> {
 
@@ -54,19 +51,19 @@ public class ImportOperationAttributeConverter implements Converter<ImportOperat
     ComplexAttributeConverter complexAttributeConverter;
 
     @Inject
-    ModelService modelService;
+    AttributeShapeCache attributeShapeCache;
 
     @Override
     public List<ImportOperationAttributeDto> convert(final ImportOperation operation) {
         LOGGER.debug("Converting importOperation [{}]", operation.getId());
-        final List<ImportOperationAttributeDto> attributes = new ArrayList<>();
+        final List<ImportOperationAttributeDto> attributes = new ArrayList<>(getAttributeCount(operation));
         if (operationModelInfoIsNull(operation)) {
             attributes.addAll(simpleAttributeConverter.convert(operation.getSimpleAttributes()));
             attributes.addAll(complexAttributeConverter.convert(operation.getComplexAttributes()));
         } else {
-            final PrimaryTypeSpecification primaryTypeSpecification = resolvePrimaryTypeSpecification(operation);
-            attributes.addAll(getProperlyTypedSimpleAttributes(operation, primaryTypeSpecification));
-            attributes.addAll(getProperlyTypedComplexAttributes(operation, primaryTypeSpecification));
+            final AttributeShape attributeShape = resolveAttributeShape(operation);
+            attributes.addAll(getProperlyTypedSimpleAttributes(operation, attributeShape));
+            attributes.addAll(getProperlyTypedComplexAttributes(operation, attributeShape));
         }
         LOGGER.debug("Attributes converted for importOperation [{}], [{}] attributes found", operation.getId(), attributes.size());
         return sort(attributes);
@@ -85,45 +82,42 @@ public class ImportOperationAttributeConverter implements Converter<ImportOperat
         }
     };
 
-    public List<ImportOperationAttributeDto> getProperlyTypedSimpleAttributes(final ImportOperation operation,
-            final PrimaryTypeSpecification primaryTypeSpecification) {
+    /*
+     * The attributes of list type with a single element are replaced in place by their list DTO, in a single pass over the
+     * attributes, and the attributes are sorted by ID once all of them are converted.
+     */
+    List<ImportOperationAttributeDto> getProperlyTypedSimpleAttributes(final ImportOperation operation,
+            final AttributeShape attributeShape) {
         final List<ImportOperationAttributeDto> importOperationAttributeDtos =
-                simpleAttributeConverter.convert(operation.getSimpleAttributes(), primaryTypeSpecification);
-        final List<ImportOperationAttributeDto> listTypeAttributesWithSingleElement = new ArrayList<>();
-        for (final ImportOperationAttributeDto importOperationAttributeDto : importOperationAttributeDtos) {
+                simpleAttributeConverter.convert(operation.getSimpleAttributes(), attributeShape);
+        final ListIterator<ImportOperationAttributeDto> iterator = importOperationAttributeDtos.listIterator();
+        while (iterator.hasNext()) {
+            final ImportOperationAttributeDto importOperationAttributeDto = iterator.next();
             if (importOperationAttributeDto instanceof SimpleAttributeDto
-                    && isListDataType(primaryTypeSpecification, importOperationAttributeDto.getName())) {
-                listTypeAttributesWithSingleElement.add(importOperationAttributeDto);
+                    && attributeShape.isList(importOperationAttributeDto.getName())) {
+                iterator.set(convertSimpleAttributeToListDto(importOperationAttributeDto));
             }
         }
-        for (final ImportOperationAttributeDto importOperationAttributeDto : listTypeAttributesWithSingleElement) {
-            importOperationAttributeDtos.add(convertSimpleAttributeToListDto(importOperationAttributeDto));
-        }
-        importOperationAttributeDtos.removeAll(listTypeAttributesWithSingleElement);
         return importOperationAttributeDtos;
     }
 
-    public List<ImportOperationAttributeDto> getProperlyTypedComplexAttributes(final ImportOperation operation,
-            final PrimaryTypeSpecification primaryTypeSpecification) {
+    List<ImportOperationAttributeDto> getProperlyTypedComplexAttributes(final ImportOperation operation,
+            final AttributeShape attributeShape) {
         final List<ImportOperationAttributeDto> importOperationAttributeDtos =
-                complexAttributeConverter.convert(operation.getComplexAttributes(), primaryTypeSpecification);
-        final List<ImportOperationAttributeDto> listTypeAttributesWithMultipleElements = new ArrayList<>();
-        for (final ImportOperationAttributeDto importOperationAttributeDto : importOperationAttributeDtos) {
+                complexAttributeConverter.convert(operation.getComplexAttributes(), attributeShape);
+        final ListIterator<ImportOperationAttributeDto> iterator = importOperationAttributeDtos.listIterator();
+        while (iterator.hasNext()) {
+            final ImportOperationAttributeDto importOperationAttributeDto = iterator.next();
             if (importOperationAttributeDto instanceof ComplexAttributeDto
-                    && isListDataType(primaryTypeSpecification, importOperationAttributeDto.getName())) {
-                listTypeAttributesWithMultipleElements.add(importOperationAttributeDto);
+                    && attributeShape.isList(importOperationAttributeDto.getName())) {
+                iterator.set(convertComplexAttributeToListDto(importOperationAttributeDto));
             }
         }
-        for (final ImportOperationAttributeDto importOperationAttributeDto : listTypeAttributesWithMultipleElements) {
-            importOperationAttributeDtos.add(convertComplexAttributeToListDto(importOperationAttributeDto));
-        }
-        importOperationAttributeDtos.removeAll(listTypeAttributesWithMultipleElements);
         return importOperationAttributeDtos;
     }
 
-    public PrimaryTypeSpecification resolvePrimaryTypeSpecification(final ImportOperation operation) {
-        final ModelInfo modelInfo = getModelInfo(operation);
-        return modelService.getTypedAccess().getEModelSpecification(modelInfo, PrimaryTypeSpecification.class);
+    AttributeShape resolveAttributeShape(final ImportOperation operation) {
+        return attributeShapeCache.get(getModelInfo(operation));
     }
 
     public SimpleAttributeListDto convertSimpleAttributeToListDto(final ImportOperationAttributeDto simpleAttributeDto) {
@@ -151,14 +145,9 @@ public class ImportOperationAttributeConverter implements Converter<ImportOperat
                 operation.getImportOperationModelInfo().getModelName(), operation.getImportOperationModelInfo().getVersion());
     }
 
-    private boolean isListDataType(final PrimaryTypeSpecification primaryTypeSpecification, final String attributeName) {
-        try {
-            final DataTypeSpecification specification = primaryTypeSpecification.getAttributeSpecification(attributeName).getDataTypeSpecification();
-            return DataType.LIST.equals(specification.getDataType());
-        } catch (final UnknownElementException e) {
-            LOGGER.debug("Model Resolution Exception is :", e);
-            return false;
-        }
+    private static int getAttributeCount(final ImportOperation operation) {
+        return (operation.getSimpleAttributes() == null ? 0 : operation.getSimpleAttributes().size())
+                + (operation.getComplexAttributes() == null ? 0 : operation.getComplexAttributes().size());
     }
 
     private boolean operationModelInfoIsNull(final ImportOperation operation) {
@@ -18,11 +18,6 @@ import static com.ericsson.oss.services.cm.bulkimport.api.dto.ImportOperationAtt
 import java.util.Map;
 import javax.inject.Inject;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.ericsson.oss.itpf.datalayer.dps.exception.model.NotDefinedInModelException;
-import com.ericsson.oss.itpf.datalayer.dps.modeling.modelservice.typed.persistence.primarytype.PrimaryTypeSpecification;
 import com.ericsson.oss.services.cm.bulkimport.api.dto.ImportOperationAttributeDto;
 import com.ericsson.oss.services.cm.bulkimport.persistence.entities.attributes.SimpleAttributeV2;
 
@@ -31,17 +26,15 @@ import com.ericsson.oss.services.cm.bulkimport.persistence.entities.attributes.S
  */
 class SimpleAttributeConverter extends AttributeConverter {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(SimpleAttributeConverter.class);
-
     @Inject
     SimpleElementConverter simpleElementConverter;
 
     @SuppressWarnings("unchecked")
     protected void addAttribute(final Map<String, ImportOperationAttributeDto> processedAttributes, final Object newAttribute,
-            final PrimaryTypeSpecification primaryTypeSpecification) {
+            final AttributeShape attributeShape) {
         final SimpleAttributeV2 simpleAttribute = (SimpleAttributeV2) newAttribute;
         final SimpleAttributeDto newAttributeDto =
-                simpleElementConverter.convert(simpleAttribute, isSensitiveAttribute(primaryTypeSpecification, simpleAttribute));
+                simpleElementConverter.convert(simpleAttribute, attributeShape.isSensitive(simpleAttribute.getName()));
         final ImportOperationAttributeDto existingAttributeDto = processedAttributes.get(newAttributeDto.getName());
         if (existingAttributeDto == null) {
             processedAttributes.put(newAttributeDto.getName(), newAttributeDto);
@@ -57,16 +50,4 @@ class SimpleAttributeConverter extends AttributeConverter {
             //Not supported
         }
     }
-
-    private boolean isSensitiveAttribute(final PrimaryTypeSpecification primaryTypeSpecification, final SimpleAttributeV2 simpleAttribute) {
-        try {
-            return primaryTypeSpecification != null && primaryTypeSpecification.getAttributeSpecification(simpleAttribute.getName()).isSensitive();
-        } catch (final NotDefinedInModelException e) {
-            LOGGER.warn("Attribute [{}] is not defined in model, ignoring.", simpleAttribute.getName(), e);
-            return false;
-        } catch (final Exception e) {
-            LOGGER.warn("Exception occured while fetching Model for Attribute [{}], ignoring.", simpleAttribute.getName(), e);
-            return false;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.Logger;
+import org.slf4j.Marker;
+
+import com.codahale.metrics.MetricRegistry;
+
+public class CsvLoggerReporterTest {
+
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final Logger logger = mock(Logger.class);
+    private final Marker marker = mock(Marker.class);
+
+    @Test
+    public void shouldSeparateTheRecordsOfAnIntervalWithLineSeparators() {
+        metricRegistry.counter("first").inc();
+        metricRegistry.counter("second").inc(2);
+
+        CsvLoggerReporter.forRegistry(metricRegistry).outputTo(logger).markWith(marker).build().report();
+
+        final String[] records = loggedRecords().split(System.lineSeparator());
+        assertThat(records).hasSize(2);
+        assertThat(records[0]).startsWith("first;").endsWith(";1");
+        assertThat(records[1]).startsWith("second;").endsWith(";2");
+    }
+
+    private String loggedRecords() {
+        final ArgumentCaptor<String> records = ArgumentCaptor.forClass(String.class);
+        verify(logger).info(eq(marker), records.capture());
+        return records.getValue();
+    }
+}
@@ -0,0 +1,90 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.codahale.metrics.Clock;
+
+public class LockFreeSlidingWindowReservoirTest {
+
+    @Test
+    public void shouldKeepTheLastMeasurements() {
+        final LockFreeSlidingWindowReservoir reservoir = new LockFreeSlidingWindowReservoir(3);
+        for (long value = 1; value <= 5; value++) {
+            reservoir.update(value);
+        }
+
+        assertThat(reservoir.size()).isEqualTo(3);
+        assertThat(reservoir.getSnapshot().getValues()).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    public void shouldKeepTheMeasurementsOfAPartlyFilledRing() {
+        final LockFreeSlidingWindowReservoir reservoir = new LockFreeSlidingWindowReservoir(3);
+        reservoir.update(2);
+
+        assertThat(reservoir.size()).isEqualTo(1);
+        assertThat(reservoir.getSnapshot().getValues()).containsExactly(2L);
+    }
+
+    @Test
+    public void shouldLeaveOutTheMeasurementsOlderThanTheWindow() {
+        final ManualClock clock = new ManualClock();
+        final LockFreeSlidingWindowReservoir reservoir = new LockFreeSlidingWindowReservoir(10, 1, TimeUnit.SECONDS, clock);
+        reservoir.update(1);
+        clock.tick = TimeUnit.MILLISECONDS.toNanos(600);
+        reservoir.update(2);
+        clock.tick = TimeUnit.MILLISECONDS.toNanos(1200);
+        reservoir.update(3);
+
+        assertThat(reservoir.size()).isEqualTo(2);
+        assertThat(reservoir.getSnapshot().getValues()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    public void shouldKeepAllTheMeasurementsWhenUpdatedConcurrently() throws InterruptedException {
+        final LockFreeSlidingWindowReservoir reservoir = new LockFreeSlidingWindowReservoir(100);
+        final List<Thread> threads = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            threads.add(new Thread(() -> {
+                for (int update = 0; update < 10000; update++) {
+                    reservoir.update(7);
+                }
+            }));
+        }
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(reservoir.size()).isEqualTo(100);
+        assertThat(reservoir.getSnapshot().getValues()).hasSize(100).containsOnly(7L);
+    }
+
+    private static final class ManualClock extends Clock {
+        private long tick;
+
+        @Override
+        public long getTick() {
+            return tick;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+public class MetricRegistryWrapperTest {
+
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final MetricRegistryWrapper metricRegistryWrapper = new MetricRegistryWrapper(metricRegistry, null, null,
+            new ReservoirFactory(), 2);
+
+    @Test
+    public void shouldReturnTheRegisteredMetricOfAName() {
+        final Timer timer = metricRegistryWrapper.timer("timer");
+
+        assertThat(metricRegistryWrapper.timer("timer")).isSameAs(timer);
+        assertThat(metricRegistry.getMetrics().get("timer")).isSameAs(timer);
+    }
+
+    @Test
+    public void shouldShareOneUnregisteredMetricOnceTheMaximumIsReached() {
+        metricRegistryWrapper.counter("first");
+        metricRegistryWrapper.counter("second");
+
+        final Counter third = metricRegistryWrapper.counter("third");
+
+        assertThat(metricRegistryWrapper.counter("fourth")).isSameAs(third);
+        assertThat(metricRegistryWrapper.counter("third")).isSameAs(third);
+        assertThat(metricRegistryWrapper.timer("fifth")).isSameAs(metricRegistryWrapper.timer("sixth"));
+        assertThat(metricRegistry.getMetrics()).containsOnlyKeys("first", "second", MetricRegistryWrapper.DROPPED_METRICS_NAME);
+        assertThat(metricRegistry.counter(MetricRegistryWrapper.DROPPED_METRICS_NAME).getCount()).isEqualTo(5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectAMetricOfAnotherTypeWithTheSameName() {
+        metricRegistryWrapper.counter("metric");
+
+        metricRegistryWrapper.timer("metric");
+    }
+}
@@ -0,0 +1,124 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+
+import javax.interceptor.InvocationContext;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import com.codahale.metrics.MetricRegistry;
+
+import com.ericsson.oss.services.cm.importexportproxyservice.bulkexport.metrics.annotation.Timed;
+
+/**
+ * Checks that the timers of a method are resolved the first time the method is intercepted on a target class. Each test intercepts
+ * its own methods, as the resolved timers are kept for all the interceptors.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class TimedInterceptorTest {
+
+    @Spy
+    private final MetricRegistryWrapper metricRegistryWrapper = new MetricRegistryWrapper(new MetricRegistry(), null, null);
+
+    @Mock
+    private Logger logger;
+
+    @InjectMocks
+    private TimedInterceptor timedInterceptor;
+
+    @Test
+    public void shouldResolveTheTimersOfAMethodOnlyOnce() throws Exception {
+        final Method method = TimedService.class.getMethod("timedMethod");
+        final String methodMetricName = TimedService.class.getName() + ".method";
+        final String classMetricName = TimedService.class.getName() + ".timedMethod";
+
+        for (int invocation = 0; invocation < 3; invocation++) {
+            assertThat(timedInterceptor.aroundInvoke(context(new TimedService(), method))).isEqualTo("timed");
+        }
+
+        verify(metricRegistryWrapper, times(1)).timer(methodMetricName);
+        verify(metricRegistryWrapper, times(1)).timer(classMetricName);
+        assertThat(metricRegistryWrapper.timer(methodMetricName).getCount()).isEqualTo(3);
+        assertThat(metricRegistryWrapper.timer(classMetricName).getCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldResolveTheTimersAgainForAnotherTargetClass() throws Exception {
+        final Method method = TimedService.class.getMethod("inheritedMethod");
+        final String classMetricName = TimedService.class.getName() + ".inheritedMethod";
+        final String subclassMetricName = TimedServiceSubclass.class.getName() + ".inheritedMethod";
+
+        for (int invocation = 0; invocation < 2; invocation++) {
+            timedInterceptor.aroundInvoke(context(new TimedService(), method));
+            timedInterceptor.aroundInvoke(context(new TimedServiceSubclass(), method));
+        }
+
+        verify(metricRegistryWrapper, times(1)).timer(classMetricName);
+        verify(metricRegistryWrapper, times(1)).timer(subclassMetricName);
+        assertThat(metricRegistryWrapper.timer(classMetricName).getCount()).isEqualTo(2);
+        assertThat(metricRegistryWrapper.timer(subclassMetricName).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldProceedWithoutTimersForAnUntimedMethod() throws Exception {
+        final Method method = UntimedService.class.getMethod("untimedMethod");
+
+        assertThat(timedInterceptor.aroundInvoke(context(new UntimedService(), method))).isEqualTo("untimed");
+
+        verify(metricRegistryWrapper, never()).timer(anyString());
+    }
+
+    private static InvocationContext context(final Object target, final Method method) throws Exception {
+        final InvocationContext context = mock(InvocationContext.class);
+        when(context.getTarget()).thenReturn(target);
+        when(context.getMethod()).thenReturn(method);
+        when(context.proceed()).thenReturn(method.invoke(target));
+        return context;
+    }
+
+    @Timed
+    public static class TimedService {
+        @Timed(name = "method")
+        public String timedMethod() {
+            return "timed";
+        }
+
+        public String inheritedMethod() {
+            return "inherited";
+        }
+    }
+
+    public static class TimedServiceSubclass extends TimedService {
+    }
+
+    public static class UntimedService {
+        public String untimedMethod() {
+            return "untimed";
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*------------------------------------------------------------------------------
+ *******************************************************************************
+ * COPYRIGHT Ericsson 2023
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ *******************************************************************************
+ *----------------------------------------------------------------------------*/
+package com.ericsson.oss.services.cm.importexportproxyservice.bulkimport.requestpipeline.importoperationattributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import static com.ericsson.oss.services.cm.bulkimport.api.dto.ImportOperationAttributeDto.importOperationAttributeDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ericsson.oss.services.cm.bulkimport.api.dto.ImportOperationAttributeDto;
+import com.ericsson.oss.services.cm.bulkimport.api.dto.ImportOperationAttributeDto.ComplexAttributeDto;
+import com.ericsson.oss.services.cm.bulkimport.api.dto.ImportOperationAttributeDto.ComplexAttributeListDto;
+import com.ericsson.oss.services.cm.bulkimport.api.dto.ImportOperationAttributeDto.SimpleAttributeDto;
+import com.ericsson.oss.services.cm.bulkimport.api.dto.ImportOperationAttributeDto.SimpleAttributeListDto;
+import com.ericsson.oss.services.cm.bulkimport.persistence.entities.ImportOperation;
+
+/**
+ * Checks that the attributes of list type are regrouped in place into their list DTO, and that the other attributes are kept.
+ */
+public class ImportOperationAttributeConverterTest {
+    private static final long OPERATION_ID = 7L;
+
+    private final ImportOperationAttributeConverter converter = new ImportOperationAttributeConverter();
+    private final AttributeShape attributeShape = new AttributeShape(new HashSet<>(Arrays.asList("simpleList", "complexList")),
+            Collections.<String>emptySet(), Collections.<String, Set<String>>emptyMap());
+    private final ImportOperation operation = mock(ImportOperation.class, RETURNS_DEEP_STUBS);
+
+    @Before
+    public void setUp() {
+        converter.simpleAttributeConverter = mock(SimpleAttributeConverter.class);
+        converter.complexAttributeConverter = mock(ComplexAttributeConverter.class);
+        converter.attributeShapeCache = mock(AttributeShapeCache.class);
+        when(converter.attributeShapeCache.get(any())).thenReturn(attributeShape);
+        when(operation.getImportOperationModelInfo().getModelName()).thenReturn("NetworkElement");
+    }
+
+    @Test
+    public void shouldReplaceTheSimpleAttributesOfListTypeInPlace() {
+        final SimpleAttributeListDto existingList = simpleList(3L, "simpleList", new ArrayList<>());
+        final SimpleAttributeDto other = simple(2L, "other", "value2");
+        givenSimpleAttributes(simple(1L, "simpleList", "value1"), other, existingList);
+
+        final List<ImportOperationAttributeDto> attributes = converter.getProperlyTypedSimpleAttributes(operation, attributeShape);
+
+        assertThat(attributes).hasSize(3);
+        assertThat(attributes.get(0)).isInstanceOf(SimpleAttributeListDto.class);
+        assertThat(attributes.get(0).getId()).isEqualTo(1L);
+        assertThat(attributes.get(0).getOperationId()).isEqualTo(OPERATION_ID);
+        assertThat(attributes.get(0).getName()).isEqualTo("simpleList");
+        assertThat(attributes.get(0).getValue()).isEqualTo(Collections.singletonList("value1"));
+        assertThat(attributes.get(1)).isSameAs(other);
+        assertThat(attributes.get(2)).isSameAs(existingList);
+    }
+
+    @Test
+    public void shouldReplaceTheComplexAttributesOfListTypeInPlace() {
+        final Map<String, Object> member = Collections.<String, Object>singletonMap("member", "value1");
+        final ComplexAttributeDto other = complex(2L, "other", member);
+        givenComplexAttributes(other, complex(1L, "complexList", member));
+
+        final List<ImportOperationAttributeDto> attributes = converter.getProperlyTypedComplexAttributes(operation, attributeShape);
+
+        assertThat(attributes).hasSize(2);
+        assertThat(attributes.get(0)).isSameAs(other);
+        assertThat(attributes.get(1)).isInstanceOf(ComplexAttributeListDto.class);
+        assertThat(attributes.get(1).getId()).isEqualTo(1L);
+        assertThat(attributes.get(1).getName()).isEqualTo("complexList");
+        assertThat(attributes.get(1).getValue()).isEqualTo(Collections.singletonList(member));
+    }
+
+    @Test
+    public void shouldSortTheSimpleAndComplexAttributesById() {
+        givenSimpleAttributes(simple(4L, "simpleList", "value4"), simple(1L, "simple", "value1"));
+        givenComplexAttributes(complex(3L, "complexList", Collections.<String, Object>emptyMap()),
+                complex(2L, "complex", Collections.<String, Object>emptyMap()));
+
+        final List<ImportOperationAttributeDto> attributes = converter.convert(operation);
+
+        assertThat(attributes).extracting("id").containsExactly(1L, 2L, 3L, 4L);
+        assertThat(attributes.get(2)).isInstanceOf(ComplexAttributeListDto.class);
+        assertThat(attributes.get(3)).isInstanceOf(SimpleAttributeListDto.class);
+    }
+
+    private void givenSimpleAttributes(final ImportOperationAttributeDto... attributes) {
+        when(converter.simpleAttributeConverter.convert(anyList(), eq(attributeShape))).thenReturn(
+                new ArrayList<>(Arrays.asList(attributes)));
+    }
+
+    private void givenComplexAttributes(final ImportOperationAttributeDto... attributes) {
+        when(converter.complexAttributeConverter.convert(anyList(), eq(attributeShape))).thenReturn(
+                new ArrayList<>(Arrays.asList(attributes)));
+    }
+
+    private static SimpleAttributeDto simple(final long id, final String name, final String value) {
+        return new SimpleAttributeDto(importOperationAttributeDto()
+                .withId(id)
+                .withOperationId(OPERATION_ID)
+                .withName(name)
+                .withValue(value));
+    }
+
+    private static SimpleAttributeListDto simpleList(final long id, final String name, final List<Object> value) {
+        return new SimpleAttributeListDto(importOperationAttributeDto()
+                .withId(id)
+                .withOperationId(OPERATION_ID)
+                .withName(name)
+                .withValue(value));
+    }
+
+    private static ComplexAttributeDto complex(final long id, final String name, final Map<String, Object> value) {
+        return new ComplexAttributeDto(importOperationAttributeDto()
+                .withId(id)
+                .withOperationId(OPERATION_ID)
+                .withName(name)
+                .withValue(value));
+    }
+}